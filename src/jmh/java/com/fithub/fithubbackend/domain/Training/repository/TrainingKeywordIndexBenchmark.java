@@ -0,0 +1,133 @@
+package com.fithub.fithubbackend.domain.Training.repository;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingCategory;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingSearchConditionDto;
+import com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingCreateDto;
+import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.domain.TrainerCareer;
+import com.fithub.fithubbackend.domain.trainer.dto.TrainerCareerRequestDto;
+import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.dto.SignUpDto;
+import com.fithub.fithubbackend.domain.user.enums.Gender;
+import com.fithub.fithubbackend.global.common.Category;
+import com.fithub.fithubbackend.global.domain.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 키워드 검색을 역색인으로 할 때와 전체 트레이닝 원문을 훑을 때(LIKE '%keyword%'와 같은 방식)의 응답 시간 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrainingKeywordIndexBenchmark {
+
+    private static final String[] WORDS = {"필라테스", "요가", "크로스핏", "헬스", "pt", "다이어트", "재활", "바디프로필", "체형교정", "스트레칭"};
+    private static final String[] ADDRESSES = {"서울특별시 강남구", "서울특별시 마포구", "부산광역시 해운대구", "대구광역시 수성구", "인천광역시 연수구"};
+
+    @Param({"1000", "10000", "50000"})
+    private int trainingCount;
+
+    @Param({"필라", "강남 요가", "바디프로필 해운대"})
+    private String keyword;
+
+    private TrainingKeywordIndex index;
+    private List<ScanRow> rows;
+    private TrainingSearchConditionDto conditions;
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        Random random = new Random(42);
+        Trainer[] trainers = Arrays.stream(ADDRESSES).map(TrainingKeywordIndexBenchmark::trainer).toArray(Trainer[]::new);
+
+        List<Training> trainings = new ArrayList<>(trainingCount);
+        rows = new ArrayList<>(trainingCount);
+        for (int id = 1; id <= trainingCount; id++) {
+            Training training = training(id, trainers[random.nextInt(trainers.length)],
+                    WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " 클래스",
+                    WORDS[random.nextInt(WORDS.length)] + " 위주로 진행합니다", 10000 + random.nextInt(100) * 1000);
+            training.addCategory(TrainingCategory.builder().training(training).category(Category.values()[random.nextInt(Category.values().length)]).build());
+            trainings.add(training);
+            rows.add(new ScanRow(id, (training.getTitle() + " " + training.getContent() + " " + training.getAddress() + " "
+                    + training.getCategories().get(0).getCategory().name()).toLowerCase(Locale.ROOT)));
+        }
+
+        index = new TrainingKeywordIndex();
+        index.rebuild(trainings);
+
+        conditions = new TrainingSearchConditionDto();
+        conditions.setKeyword(keyword);
+        pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @Benchmark
+    public Page<Long> indexSearch() {
+        return index.search(conditions, pageRequest);
+    }
+
+    @Benchmark
+    public List<Long> fullScan() {
+        String[] tokens = keyword.toLowerCase(Locale.ROOT).split("\\s+");
+        List<Long> matched = new ArrayList<>();
+        for (ScanRow row : rows) {
+            boolean matches = true;
+            for (String token : tokens) {
+                if (!row.text.contains(token)) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                matched.add(row.id);
+            }
+        }
+        matched.sort(Comparator.reverseOrder());
+        return matched.subList(0, Math.min(20, matched.size()));
+    }
+
+    private static Trainer trainer(String address) {
+        SignUpDto signUpDto = SignUpDto.builder()
+                .email("bench@fithub.com").password("password").name("벤치마크").nickname("bench")
+                .phone("01000000000").gender(Gender.UNDEFINED).build();
+        Document document = Document.builder().url("https://fithub.test/profile.png").inputName("profile.png").path("profile.png").build();
+        Trainer trainer = Trainer.builder().user(User.builder().signUpDto(signUpDto).encodedPassword("password").document(document).build()).build();
+
+        TrainerCareerRequestDto careerDto = new TrainerCareerRequestDto();
+        careerDto.setCompany("fithub");
+        careerDto.setAddress(address);
+        careerDto.setWork("PT");
+        careerDto.setStartDate(LocalDate.of(2020, 1, 1));
+        careerDto.setWorking(true);
+        trainer.updateAddress(TrainerCareer.careerBuilder().trainer(trainer).dto(careerDto).careerBuild());
+        return trainer;
+    }
+
+    private static Training training(long id, Trainer trainer, String title, String content, int price) throws ReflectiveOperationException {
+        TrainingCreateDto dto = new TrainingCreateDto();
+        dto.setTitle(title);
+        dto.setContent(content);
+        dto.setPrice(price);
+        dto.setStartDate(LocalDate.of(2030, 1, 1));
+        dto.setEndDate(LocalDate.of(2030, 1, 31));
+        dto.setStartHour(LocalTime.of(10, 0));
+        dto.setEndHour(LocalTime.of(18, 0));
+        Training training = Training.builder().dto(dto).trainer(trainer).build();
+
+        // DB에 저장하지 않으므로 id를 직접 지정
+        Field idField = Training.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(training, id);
+        return training;
+    }
+
+    private record ScanRow(long id, String text) {
+    }
+}
@@ -33,23 +33,25 @@ public class PaymentController {
 
     private final PaymentService paymentService;
 
-    @Operation(summary = "결제 전 예약 시간이 예약 가능한지 확인, 저장 api", responses = {
+    @Operation(summary = "결제 전 예약 시간이 예약 가능한지 확인, 저장 api", description = "예약할 날짜, 시간을 reservationDate(yyyy-MM-dd), reservationTime(HH:mm:ss)으로 보냄. 이전의 reservationDateId, reservationTimeId는 더 이상 받지 않음", responses = {
             @ApiResponse(responseCode = "200", description = "예약하려던 시간이 예약 가능해서 예약 정보가 저장됨, 임시로 저장된 예약 정보 id 반환"),
             @ApiResponse(responseCode = "401", description = "로그인한 사용자만 가능", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
-            @ApiResponse(responseCode = "400", description = "DATE_OR_TIME_ERROR: 결제한 트레이닝의 시간대가 예약 불가능해짐 / 예약 하려는 날짜에 해당하는 시간이 아닙니다, BAD_REQUEST: 마감한 트레이닝은 예약 불가능", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
-            @ApiResponse(responseCode = "404", description = "예약할 트레이닝이 존재하지 않는 트레이닝", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+            @ApiResponse(responseCode = "400", description = "DATE_OR_TIME_ERROR: 결제한 트레이닝의 시간대가 예약 불가능해짐 / 트레이닝의 예약 가능한 날짜, 시간이 아닙니다, BAD_REQUEST: 마감한 트레이닝은 예약 불가능, INVALID_FORM_DATA: reservationDate, reservationTime 누락", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "예약할 트레이닝이 존재하지 않는 트레이닝", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "503", description = "RESERVATION_BUSY: 예약 요청이 몰려 처리하지 못함, 잠시 후 다시 시도", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @PostMapping("/order")
     public ResponseEntity<Long> saveOrder(@RequestBody @Valid ReserveReqDto dto, @AuthUser User user) {
         if(user == null) throw new CustomException(ErrorCode.AUTHENTICATION_ERROR, "로그인한 사용자만 가능합니다.");
         Long orderId = paymentService.saveOrder(dto, user);
-        paymentService.updateAvailableDate(dto.getReservationDateId());
+        paymentService.updateAvailableDate(dto.getTrainingId(), dto.getReservationDate());
         paymentService.updateTrainingStatus(dto.getTrainingId());
         return ResponseEntity.ok(orderId);
     }
 
     @Operation(summary = "결제 금액 검증 api", description = "결제가 진행된 후에 결제한 금액과 트레이닝에 등록된 금액이 다른지 검증", responses = {
             @ApiResponse(responseCode = "200", description = "결제 금액과 트레이닝 금액이 같아 검증 성공, 예약 정보에 결제 정보 업데이트"),
+            @ApiResponse(responseCode = "400", description = "예약 후 결제 가능 시간(10분)이 지나 예약 취소됨, 결제 취소됨", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "결제한 트레이닝이 존재하지 않는 트레이닝", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "409", description = "결제한 금액과 트레이닝 금액이 다름, 결제 취소, 예약 취소됨", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
@@ -56,7 +56,7 @@ public class TrainerTrainingController {
         return ResponseEntity.ok(trainerTrainingService.getTrainersTrainingList(user.getId(), closed, pageable));
     }
 
-    @Operation(summary = "트레이닝이 있는 날짜 리스트 가져오기", description = "트레이닝 생성 시, 이미 트레이닝이 있는 날짜들은 중복이 있을 수 있으니 제외하기 위해 트레이닝이 있는 날짜를 받아옴" ,
+    @Operation(summary = "트레이닝이 있는 날짜 리스트 가져오기", description = "트레이닝 생성 시, 이미 트레이닝이 있는 날짜들은 중복이 있을 수 있으니 제외하기 위해 트레이닝이 있는 날짜를 받아옴. 오늘 이후 날짜만, 중복 없이 날짜 순. 마감된 트레이닝의 날짜도 포함" ,
             responses = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "401", description = "로그인한 사용자만 가능", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
@@ -71,6 +71,7 @@ public class TrainerTrainingController {
     @Operation(summary = "트레이닝 생성, swagger에서 테스트 불가능, 이미지는 모두 images로 주면 됨", responses = {
             @ApiResponse(responseCode = "200", description = "생성됨"),
             @ApiResponse(responseCode = "400", description = "현재 재직중인 회사가 없어 트레이닝 생성 불가능(트레이닝에는 주소,위도,경도 필요)", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "다른 트레이닝의 일정과 겹치는 날짜, 시간이 있음", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "401", description = "로그인한 사용자만 가능", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "403", description = "해당 회원은 트레이너가 아님", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "409", description = "예약 가능 날짜에 현재보다 이전 날짜가 들어있음", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
@@ -107,6 +108,7 @@ public class TrainerTrainingController {
     @Operation(summary = "트레이닝 날짜 수정", responses = {
             @ApiResponse(responseCode = "200", description = "성공. 다시 /reservations/count 조회하거나 트레이닝으로 돌아가기"),
             @ApiResponse(responseCode = "400", description = "수정하려는 날짜 중에(date.getDate()) 일에 진행 전 예약이 존재하여 수정할 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "다른 트레이닝의 일정과 겹치는 날짜, 시간이 있음", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
             @ApiResponse(responseCode = "401", description = "로그인한 사용자만 가능", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     })
     @PutMapping("/update/date")
@@ -2,6 +2,7 @@ package com.fithub.fithubbackend.domain.Training.api;
 
 import com.fithub.fithubbackend.domain.Training.application.TrainingService;
 import com.fithub.fithubbackend.domain.Training.dto.Location;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingCursorPageDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingInfoDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingOutlineDto;
 import com.fithub.fithubbackend.domain.Training.dto.review.TrainingReviewDto;
@@ -36,6 +37,21 @@ public class TrainingController {
         return ResponseEntity.ok(trainingService.searchAll(pageable));
     }
 
+    @Operation(summary = "트레이닝 전체 조회, 커서 방식 (무한 스크롤용)", parameters = {
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor. 첫 조회 때는 보내지 않음"),
+            @Parameter(name = "withCount", description = "전체 개수 포함 여부 (기본 false). 최대 1분 전 값일 수 있음"),
+            @Parameter(name = "pageable", description = "size, sort만 사용 (기본 size = 9, sort = id desc). title, startDate, endDate, price 지정 가능. 정렬을 바꾸면 cursor 없이 다시 조회해야 함")
+    }, responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 커서와 정렬 조건 불일치", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/all/cursor")
+    public ResponseEntity<TrainingCursorPageDto> searchAllByCursor(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "false") boolean withCount,
+                                                                   @PageableDefault(size = 9, sort = "id",  direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(trainingService.searchAllByCursor(cursor, pageable, withCount));
+    }
+
     @Operation(summary = "트레이닝 하나 상세 조회", parameters = {
             @Parameter(name = "trainingId", description = "조회할 트레이닝의 primary key(id)")
     }, responses = {
@@ -48,6 +64,28 @@ public class TrainingController {
         return ResponseEntity.ok(trainingService.searchById(trainingId));
     }
 
+    @Operation(summary = "인기 트레이닝 목록 조회 (최근 찜, 예약이 많은 순)", parameters = {
+            @Parameter(name = "size", description = "조회할 개수 (기본 10, 최대 50). 마감된 트레이닝은 제외되어 더 적을 수 있음")
+    }, responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 개수가 범위를 벗어남", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<List<TrainingOutlineDto>> searchPopularTrainings(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(trainingService.searchPopularTrainings(size));
+    }
+
+    @Operation(summary = "트레이닝 인기 순위 조회", parameters = {
+            @Parameter(name = "trainingId", description = "조회할 트레이닝의 primary key(id)")
+    }, responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공. 1위부터 시작, 순위에 없으면 빈 값"),
+            @ApiResponse(responseCode = "404", description = "해당하는 트레이닝 존재 X", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/popular/rank")
+    public ResponseEntity<Long> getPopularityRank(@RequestParam Long trainingId) {
+        return ResponseEntity.ok(trainingService.getPopularityRank(trainingId));
+    }
+
     @Operation(summary = "트레이닝 상세 조회에서 트레이닝 리뷰 리스트 조회", parameters = {
             @Parameter(name = "trainingId", description = "조회할 트레이닝의 primary key(id)")
     }, responses = {
@@ -70,14 +108,35 @@ public class TrainingController {
         return ResponseEntity.ok(trainingService.searchTrainingByConditions(conditions, pageable));
     }
 
-    @Operation(summary = "트레이닝 지정 위치로 검색", parameters = {
-            @Parameter(name = "location", description = "위도, 경도")
+    @Operation(summary = "트레이닝 검색 (필터 포함), 커서 방식 (무한 스크롤용)", parameters = {
+            @Parameter(name = "conditions", description = "검색 조건들 (키워드, 최저/최고가, 시작/마감일), 사용할 조건만 보내야됨. 다음 목록 조회 때도 같은 조건으로 보내야 함"),
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor. 첫 조회 때는 보내지 않음"),
+            @Parameter(name = "withCount", description = "전체 개수 포함 여부 (기본 false). 최대 1분 전 값일 수 있음"),
+            @Parameter(name = "pageable", description = "size, sort만 사용 (기본 size = 9, sort = id desc). title, startDate, endDate, price 지정 가능. 정렬을 바꾸면 cursor 없이 다시 조회해야 함")
     }, responses = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
-            @ApiResponse(responseCode = "500", description = "좌표 파싱중에 에러 발생. 좌표 다시 설정해서 보내주기"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 커서와 정렬 조건 불일치", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/search/cursor")
+    public ResponseEntity<TrainingCursorPageDto> searchTrainingByConditionsByCursor(TrainingSearchConditionDto conditions,
+                                                                                    @RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(defaultValue = "false") boolean withCount,
+                                                                                    @PageableDefault(size = 9, sort = "id",  direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(trainingService.searchTrainingByConditionsByCursor(conditions, cursor, pageable, withCount));
+    }
+
+    @Operation(summary = "트레이닝 지정 위치로 검색, 가까운 순 정렬", parameters = {
+            @Parameter(name = "location", description = "위도, 경도"),
+            @Parameter(name = "radius", description = "검색 반경(km), 기본 2km, 최대 20km"),
+            @Parameter(name = "pageable", description = "page, size만 사용 (기본 size = 9). 정렬은 항상 거리순")
+    }, responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공. dist는 m 단위"),
+            @ApiResponse(responseCode = "400", description = "검색 반경이 범위를 벗어남", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     })
     @PostMapping("/search/location")
-    public ResponseEntity<List<TrainingOutlineDto>> searchTrainingByConditions(@RequestBody Location location) {
-        return ResponseEntity.ok(trainingService.searchTrainingByLocation(location.getLatitude(), location.getLongitude()));
+    public ResponseEntity<Page<TrainingOutlineDto>> searchTrainingByConditions(@RequestBody Location location,
+                                                                               @RequestParam(defaultValue = "2.0") double radius,
+                                                                               @PageableDefault(size = 9) Pageable pageable) {
+        return ResponseEntity.ok(trainingService.searchTrainingByLocation(location.getLatitude(), location.getLongitude(), radius, pageable));
     }
 }
@@ -7,13 +7,16 @@ import com.fithub.fithubbackend.domain.user.domain.User;
 import com.siot.IamportRestClient.exception.IamportResponseException;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 
 public interface PaymentService {
     Long saveOrder(ReserveReqDto dto, User user);
-    void updateAvailableDate(Long availableDateId);
+    void updateAvailableDate(Long trainingId, LocalDate date);
     void updateTrainingStatus(Long trainingId);
 
     Long validate(PaymentReqDto dto) throws IamportResponseException, IOException;
+    int expireReservations(List<Long> reserveInfoIds, long fencingToken);
 
     void cancelPayment(Long userId, CancelReqDto dto) throws IamportResponseException, IOException;
 }
@@ -4,6 +4,9 @@ import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
 import com.fithub.fithubbackend.domain.Training.domain.AvailableTime;
 import com.fithub.fithubbackend.domain.Training.domain.ReserveInfo;
 import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingSchedule;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingSlotChangeEvent;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingUpdateEvent;
 import com.fithub.fithubbackend.domain.Training.dto.reservation.CancelReqDto;
 import com.fithub.fithubbackend.domain.Training.dto.reservation.PaymentReqDto;
 import com.fithub.fithubbackend.domain.Training.dto.reservation.ReserveReqDto;
@@ -17,6 +20,7 @@ import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
 import com.fithub.fithubbackend.global.notify.NotificationType;
 import com.fithub.fithubbackend.global.notify.dto.NotifyRequestDto;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
 import com.siot.IamportRestClient.IamportClient;
 import com.siot.IamportRestClient.exception.IamportResponseException;
 import com.siot.IamportRestClient.request.CancelData;
@@ -26,12 +30,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -45,8 +55,17 @@ public class PaymentServiceImpl implements PaymentService {
     private final AvailableTimeRepository availableTimeRepository;
 
     private final ReserveInfoRepository reserveInfoRepository;
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+
+    private final ReservationHoldService reservationHoldService;
+    private final TrainingScheduleStateService trainingScheduleStateService;
+    private final TrainingPopularityService trainingPopularityService;
 
     private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate claimTransaction;
+    private final int claimRetryCount = 3;
 
     @Value("${imp.api.key}")
     private String apiKey;
@@ -57,35 +76,67 @@ public class PaymentServiceImpl implements PaymentService {
     @PostConstruct
     public void init() {
         this.iamportClient = new IamportClient(apiKey, secretKey);
+        this.claimTransaction = new TransactionTemplate(transactionManager);
     }
 
+    // 날짜 행은 먼저 따로 만들어 커밋하고, 예약 트랜잭션은 날짜 행 -> 시간 행 -> 트레이닝 순서로만 잠금
+    // 같은 날짜의 예약은 날짜 행 잠금에서 줄을 서므로 서로 교착 상태가 되지 않음
+    // 스케줄러 일괄 변경과의 교착 상태로 롤백되면 새 트랜잭션으로 다시 시도하고, 계속 실패하면 다시 시도하라고 응답
     @Override
-    @Transactional
     public Long saveOrder(ReserveReqDto dto, User user) {
+        claimTransaction.executeWithoutResult(status -> saveAvailableDateIfAbsent(dto));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return claimTransaction.execute(status -> claimSlot(dto, user));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= claimRetryCount) {
+                    log.warn("예약 잠금 충돌로 실패 - trainingId: {}, {} {}", dto.getTrainingId(), dto.getReservationDate(), dto.getReservationTime());
+                    throw new CustomException(ErrorCode.RESERVATION_BUSY);
+                }
+            }
+        }
+    }
+
+    private void saveAvailableDateIfAbsent(ReserveReqDto dto) {
+        Training training = findOpenTraining(dto);
+        TrainingSchedule schedule = TrainingSchedule.of(training);
+        LocalDateTime sweptDateTime = trainingScheduleStateService.getSweptDateTime();
+        availableDateRepository.saveIfAbsent(training.getId(), dto.getReservationDate(), schedule.countTimesAfter(dto.getReservationDate(), sweptDateTime));
+    }
+
+    private Long claimSlot(ReserveReqDto dto, User user) {
+        Training training = findOpenTraining(dto);
+        AvailableDate availableDate = availableDateRepository.findByTrainingIdAndDateForUpdate(training.getId(), dto.getReservationDate())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 날짜는 존재하지 않습니다."));
+        AvailableTime availableTime = claimAvailableTime(availableDate, dto.getReservationTime());
+
+        ReserveInfo reserveInfo = reserveInfoRepository.save(createReserveInfo(user, training, availableDate, availableTime));
+        reservationHoldService.hold(reserveInfo.getId());
+        eventPublisher.publishEvent(new TrainingSlotChangeEvent(training.getId()));
+
+        eventPublisher.publishEvent(createReservationNotifyRequest(training));
+        return reserveInfo.getId();
+    }
+
+    private Training findOpenTraining(ReserveReqDto dto) {
         Training training = trainingRepository.findById(dto.getTrainingId()).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 트레이닝입니다."));
         if (training.isClosed()) {
             throw new CustomException(ErrorCode.BAD_REQUEST, "마감된 트레이닝은 예약할 수 없습니다.");
         }
 
-        AvailableDate availableDate = availableDateRepository.findById(dto.getReservationDateId()).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 날짜는 존재하지 않습니다."));
-        if (!availableDate.isEnabled()) {
-            throw new CustomException(ErrorCode.DATE_OR_TIME_ERROR, "해당 날짜에 예약 가능한 시간대가 없습니다.");
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        if (!TrainingSchedule.of(training).isOpen(dto.getReservationDate(), dto.getReservationTime(), now)) {
+            throw new CustomException(ErrorCode.DATE_OR_TIME_ERROR, "트레이닝의 예약 가능한 날짜, 시간이 아닙니다.");
         }
+        return training;
+    }
 
-        AvailableTime availableTime = availableTimeRepository.findById(dto.getReservationTimeId()).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 시간은 존재하지 않습니다."));
-        if (!availableTime.isEnabled()) {
+    private AvailableTime claimAvailableTime(AvailableDate availableDate, LocalTime time) {
+        availableTimeRepository.saveIfAbsent(availableDate.getId(), time);
+        if (availableTimeRepository.closeIfEnabled(availableDate.getId(), time) == 0) {
             throw new CustomException(ErrorCode.DATE_OR_TIME_ERROR, "해당 시간은 이미 예약되었습니다.");
         }
-
-        if (!availableTime.getAvailableDate().equals(availableDate)) {
-            throw new CustomException(ErrorCode.DATE_OR_TIME_ERROR, "예약 하려는 날짜에 해당하는 시간이 아닙니다.");
-        }
-        availableTime.closeTime();
-
-        ReserveInfo reserveInfo = reserveInfoRepository.save(createReserveInfo(user, training, availableDate, availableTime));
-
-        eventPublisher.publishEvent(createReservationNotifyRequest(training));
-        return reserveInfo.getId();
+        return availableTimeRepository.findByAvailableDateIdAndTime(availableDate.getId(), time).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 시간은 존재하지 않습니다."));
     }
 
     private ReserveInfo createReserveInfo(User user, Training training, AvailableDate availableDate, AvailableTime availableTime) {
@@ -108,12 +159,10 @@ public class PaymentServiceImpl implements PaymentService {
 
     @Override
     @Transactional
-    public void updateAvailableDate(Long availableDateId) {
-        AvailableDate availableDate = availableDateRepository.findById(availableDateId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 날짜는 존재하지 않습니다."));
-        if (availableDate.isEnabled()) {
-            if (!availableTimeRepository.existsByEnabledTrueAndAvailableDate(availableDate)) {
-                availableDate.closeDate();
-            }
+    public void updateAvailableDate(Long trainingId, LocalDate date) {
+        AvailableDate availableDate = availableDateRepository.findByTrainingIdAndDate(trainingId, date).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 예약 날짜는 존재하지 않습니다."));
+        if (availableDate.isEnabled() && availableDate.getRemainingSlots() <= 0) {
+            availableDate.closeDate();
         }
     }
 
@@ -121,22 +170,27 @@ public class PaymentServiceImpl implements PaymentService {
     @Transactional
     public void updateTrainingStatus(Long trainingId) {
         Training training = trainingRepository.findById(trainingId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 트레이닝입니다."));
-        if (!training.isClosed()){
-            if (!availableDateRepository.existsByEnabledTrueAndTrainingId(trainingId)) {
-                training.updateClosed(true);
-            }
+        if (!training.isClosed() && training.getRemainingSlots() <= 0) {
+            training.updateClosed(true);
+            eventPublisher.publishEvent(new TrainingUpdateEvent(trainingId));
         }
     }
 
     @Override
-    @Transactional(noRollbackFor = {CustomException.class})
+    // 결제 취소 API 호출 실패(checked 예외)도 롤백해서 결제 대기가 다시 잡히도록 함
+    @Transactional(noRollbackFor = {CustomException.class}, rollbackFor = {IamportResponseException.class, IOException.class})
     public Long validate(PaymentReqDto dto) throws IamportResponseException, IOException {
-        ReserveInfo reserveInfo = reserveInfoRepository.findById(dto.getReservationId()).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "예약 내역이 없습니다. 다시 진행해주세요."));
-
         Payment response = iamportClient.paymentByImpUid(dto.getImpUid()).getResponse();
+        if (!reservationHoldService.release(dto.getReservationId())) {
+            iamportClient.cancelPaymentByImpUid(createCancelData(response));
+            throw new CustomException(ErrorCode.BAD_REQUEST, "결제 가능 시간이 지나 예약이 취소되었습니다. 다시 진행해주세요.");
+        }
+
+        ReserveInfo reserveInfo = reserveInfoRepository.findById(dto.getReservationId()).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "예약 내역이 없습니다. 다시 진행해주세요."));
         validateAmount(response, reserveInfo);
 
         reserveInfo.updatePaymentInfo(dto);
+        trainingPopularityService.addReservation(reserveInfo.getTraining().getId(), reserveInfo.getCreatedDate());
 
         log.info("결제 내역 - imp_uid: {}, merchant_uid: {}", response.getImpUid(), response.getMerchantUid());
         return reserveInfo.getId();
@@ -154,6 +208,32 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    // 결제 대기 해제도 같은 트랜잭션에서 하므로 롤백되면 다시 만료 처리 대상이 됨
+    // lease가 만료된 뒤 다른 서버가 만료 처리를 시작했으면 -1
+    @Override
+    @Transactional
+    public int expireReservations(List<Long> reserveInfoIds, long fencingToken) {
+        if (!scheduleWatermarkRepository.fence("reservation-hold", fencingToken)) {
+            return -1;
+        }
+
+        // 결제 검증에서 먼저 해제한 예약은 제외
+        List<Long> releasedIds = reserveInfoIds.stream().filter(reservationHoldService::release).toList();
+        if (releasedIds.isEmpty()) {
+            return 0;
+        }
+
+        int expired = 0;
+        for (ReserveInfo reserveInfo : reserveInfoRepository.findAllById(releasedIds)) {
+            if (reserveInfo.getStatus() == ReserveStatus.BEFORE && reserveInfo.getImpUid() == null) {
+                openTrainingAndDateTime(reserveInfo.getTraining(), reserveInfo);
+                reserveInfoRepository.delete(reserveInfo);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
     @Override
     @Transactional
     public void cancelPayment(Long userId, CancelReqDto dto) throws IamportResponseException, IOException {
@@ -177,6 +257,7 @@ public class PaymentServiceImpl implements PaymentService {
         checkReserveStatusIsCancelable(reserveInfo.getStatus());
 
         reserveInfo.updateStatus(ReserveStatus.CANCEL);
+        trainingPopularityService.removeReservation(reserveInfo.getTraining().getId(), reserveInfo.getCreatedDate());
         openTrainingAndDateTime(reserveInfo.getTraining(), reserveInfo);
         return reserveInfo;
     }
@@ -192,10 +273,19 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     private void openTrainingAndDateTime(Training training, ReserveInfo reserveInfo) {
+        // 이미 지나서 남은 시간 수에서 빠진 시간은 다시 더하지 않음
+        if (reserveInfo.getReserveDateTime().isAfter(trainingScheduleStateService.getSweptDateTime())) {
+            availableDateRepository.releaseSlot(reserveInfo.getAvailableDate().getId());
+            trainingRepository.addRemainingSlots(training.getId(), 1);
+        } else {
+            availableDateRepository.releaseReservation(reserveInfo.getAvailableDate().getId());
+        }
         reserveInfo.openDateTime();
+        eventPublisher.publishEvent(new TrainingSlotChangeEvent(training.getId()));
         // TODO: 예약이 취소돼서 모집 마감 -> 오픈되었다는 알림
         if (training.isClosed()) {
             training.updateClosed(false);
+            eventPublisher.publishEvent(new TrainingUpdateEvent(training.getId()));
         }
     }
 
@@ -0,0 +1,9 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import java.util.List;
+
+public interface ReservationHoldService {
+    void hold(Long reserveInfoId);
+    boolean release(Long reserveInfoId);
+    List<Long> findExpiredHolds(int batchSize);
+}
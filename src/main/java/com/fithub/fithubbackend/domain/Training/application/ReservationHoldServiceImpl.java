@@ -0,0 +1,79 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationHoldServiceImpl implements ReservationHoldService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String holdKey = "reservation:hold";
+
+    // 결제 검증 전까지 예약 시간을 잡아두는 시간
+    private final long holdTime = 10 * 60 * 1000L;
+
+    // 삭제한 예약의 만료 시각을 돌려줌. 롤백되면 같은 만료 시각으로 되돌림
+    private final RedisScript<String> releaseScript = new DefaultRedisScript<>(
+            "local score = redis.call('zscore', KEYS[1], ARGV[1]) " +
+            "if score then redis.call('zrem', KEYS[1], ARGV[1]) end " +
+            "return score", String.class);
+
+    @Override
+    public void hold(Long reserveInfoId) {
+        redisTemplate.opsForZSet().add(holdKey, String.valueOf(reserveInfoId), System.currentTimeMillis() + holdTime);
+    }
+
+    // 결제 검증과 만료 처리 중 먼저 삭제한 쪽만 true
+    // 트랜잭션 안에서 삭제했는데 롤백되면 다시 넣어서 만료 처리 대상에서 빠지지 않게 함
+    @Override
+    public boolean release(Long reserveInfoId) {
+        String score = redisTemplate.execute(releaseScript, Collections.singletonList(holdKey), String.valueOf(reserveInfoId));
+        if (score == null) {
+            return false;
+        }
+        restoreOnRollback(reserveInfoId, Double.parseDouble(score));
+        return true;
+    }
+
+    private void restoreOnRollback(Long reserveInfoId, double score) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    redisTemplate.opsForZSet().add(holdKey, String.valueOf(reserveInfoId), score);
+                } catch (DataAccessException e) {
+                    log.error("예약 {} 결제 대기 복구 실패: {}", reserveInfoId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<Long> findExpiredHolds(int batchSize) {
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(holdKey, 0, System.currentTimeMillis(), 0, batchSize);
+        if (expired == null) {
+            return Collections.emptyList();
+        }
+        return expired.stream().map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.TrainerScheduleIndex;
+import com.fithub.fithubbackend.domain.Training.dto.TrainerScheduleChangeEvent;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// 트레이너별 일정 색인. 트레이너의 남은 트레이닝 일정을 한 번에 조회해서 만들고, 일정이 바뀌면 모든 서버에서 지움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerScheduleIndexCache implements MessageListener {
+
+    private final TrainingRepository trainingRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String evictChannel = "trainer:schedule:evict";
+    private final Duration ttl = Duration.ofMinutes(10);
+    private final long maxSize = 1000;
+
+    private Cache<Long, TrainerScheduleIndex> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(evictChannel));
+    }
+
+    public TrainerScheduleIndex get(Long trainerId) {
+        return cache.get(trainerId, id -> TrainerScheduleIndex.of(
+                trainingRepository.findScheduleWindowsByTrainerId(id, LocalDate.now(ZoneId.of("Asia/Seoul")))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTrainerScheduleChange(TrainerScheduleChangeEvent event) {
+        cache.invalidate(event.getTrainerId());
+        try {
+            redisTemplate.convertAndSend(evictChannel, String.valueOf(event.getTrainerId()));
+        } catch (DataAccessException e) {
+            log.warn("트레이너 일정 색인 삭제 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            cache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 트레이너 일정 색인 삭제 메시지: {}", e.getMessage());
+        }
+    }
+}
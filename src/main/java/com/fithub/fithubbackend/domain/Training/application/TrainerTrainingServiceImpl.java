@@ -2,13 +2,18 @@ package com.fithub.fithubbackend.domain.Training.application;
 
 import com.fithub.fithubbackend.domain.Training.domain.*;
 import com.fithub.fithubbackend.domain.Training.dto.TrainersTrainingOutlineDto;
+import com.fithub.fithubbackend.domain.Training.dto.TrainerScheduleChangeEvent;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingUpdateEvent;
 import com.fithub.fithubbackend.domain.Training.dto.reservation.TrainersReserveInfoDto;
 import com.fithub.fithubbackend.domain.Training.dto.reservation.TrainingDateReservationNumDto;
 import com.fithub.fithubbackend.domain.Training.dto.trainersTraining.*;
 import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
 import com.fithub.fithubbackend.domain.Training.repository.*;
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRatingStatsRepository;
 import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
+import com.fithub.fithubbackend.domain.user.application.UserMembershipService;
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
 import com.fithub.fithubbackend.domain.user.domain.User;
 import com.fithub.fithubbackend.global.common.Category;
 import com.fithub.fithubbackend.global.config.s3.AwsS3Uploader;
@@ -26,7 +31,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -41,9 +45,14 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
     private final TrainingDocumentRepository trainingDocumentRepository;
 
     private final TrainerRepository trainerRepository;
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
     private final TrainingLikesRepository trainingLikesRepository;
+    private final UserMembershipService userMembershipService;
+    private final TrainingPopularityService trainingPopularityService;
+    private final TrainerScheduleIndexCache trainerScheduleIndexCache;
 
     private final AvailableDateRepository availableDateRepository;
+    private final AvailableTimeRepository availableTimeRepository;
 
     private final ReserveInfoRepository reserveInfoRepository;
     private final TrainingReviewRepository trainingReviewRepository;
@@ -51,6 +60,8 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
 
     private final TrainingCategoryRepository trainingCategoryRepository;
 
+    private final TrainingScheduleStateService trainingScheduleStateService;
+
     private final AwsS3Uploader awsS3Uploader;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -67,12 +78,7 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
     @Override
     public List<LocalDate> getDateListOfOtherTraining(Long userId) {
         Trainer trainer = findTrainerByUserId(userId);
-        List<Training> trainingList = trainingRepository.findByDeletedFalseAndClosedFalseAndTrainerId(trainer.getId());
-
-        return trainingList.stream()
-                .flatMap(t -> t.getAvailableDates().stream().map(AvailableDate::getDate))
-                .sorted()
-                .collect(Collectors.toList());
+        return trainerScheduleIndexCache.get(trainer.getId()).getDates(LocalDate.now(ZoneId.of("Asia/Seoul")));
     }
 
     @Override
@@ -80,13 +86,13 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
     public Long createTraining(TrainingCreateDto dto, User user) {
         Trainer trainer = findTrainerByUserId(user.getId());
         dateValidate(dto.getStartDate(), dto.getEndDate());
+        scheduleOverlapValidate(trainer.getId(), null, dto.getStartDate(), dto.getEndDate(), dto.getUnableDates(), dto.getStartHour(), dto.getEndHour());
 
         if (trainer.getPoint() == null) {
             throw new CustomException(ErrorCode.BAD_REQUEST, "현재 트레이너가 근무지가 없어 생성이 불가능합니다.");
         }
 
         Training training = Training.builder().dto(dto).trainer(trainer).build();
-        saveDateTimeToTraining(training, dto);
         saveTrainingCategories(training, dto.getCategories());
 
         if (dto.getImages() != null && !dto.getImages().isEmpty()) {
@@ -94,27 +100,13 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
         }
 
         trainingRepository.save(training);
+        // 오늘 이미 지난 시간은 남은 시간 수에서 제외
+        trainingScheduleStateService.refreshRemainingSlots(training);
+        eventPublisher.publishEvent(new TrainingUpdateEvent(training.getId()));
+        eventPublisher.publishEvent(new TrainerScheduleChangeEvent(trainer.getId()));
         return training.getId();
     }
 
-    private void saveDateTimeToTraining(Training training, TrainingCreateDto dto) {
-        List<LocalDate> availableDateList = getAvailableDateList(dto.getStartDate(), dto.getEndDate(), dto.getUnableDates());
-        List<LocalTime> localTimeList = getAvailableTimeList(dto.getStartHour(), dto.getEndHour());
-
-        linkDateTimeToTraining(availableDateList, localTimeList, training);
-    }
-
-    private void linkDateTimeToTraining(List<LocalDate> availableDateList, List<LocalTime> localTimeList, Training training) {
-        for (LocalDate date : availableDateList) {
-            AvailableDate availableDate = AvailableDate.builder().date(date).enabled(true).build();
-            List<AvailableTime> availableTimeList = localTimeList.stream()
-                    .map(t -> AvailableTime.builder().date(availableDate).time(t).enabled(true).build()).toList();
-
-            availableDate.updateAvailableTimes(availableTimeList);
-            availableDate.addTraining(training);
-        }
-    }
-
     private void saveTrainingImages(List<MultipartFile> images, Training training) {
         FileUtils.isValidDocument(images);
         for (MultipartFile file : images) {
@@ -163,25 +155,33 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
         if (dto.getTrainingCategoryUpdateDto() != null)
             deleteOrAddCategory(dto.getTrainingCategoryUpdateDto(), training);
 
+        eventPublisher.publishEvent(new TrainingUpdateEvent(training.getId()));
         return training.getId();
     }
 
+    // 엔티티 없이 예약 규칙과 날짜별 예약 수만 조회. 예약 날짜가 아직 만들어지지 않은 날은 0
     @Override
+    @Transactional(readOnly = true)
     public List<TrainingDateReservationNumDto> getNumberOfReservations(Long trainingId) {
-        Training training = findTrainingById(trainingId);
-        List<AvailableDate> availableDates = training.getAvailableDates();
+        List<TrainingScheduleWindowDto> windows = trainingRepository.findScheduleWindowsByTrainingId(trainingId);
+        if (windows.isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND, "해당하는 트레이닝을 찾을 수 없습니다.");
+        }
+        TrainingScheduleWindowDto window = windows.get(0);
+        List<LocalDate> unableDates = windows.stream().map(TrainingScheduleWindowDto::getUnableDate).filter(Objects::nonNull).toList();
 
-        return availableDates.stream()
-                .map(date -> {
-                    Long reservationNum = reserveInfoRepository.countByAvailableDateIdAndStatus(date.getId(), ReserveStatus.BEFORE);
-                    return createTrainingDateReservationNumDto(date, reservationNum);
-                }).toList();
+        Map<LocalDate, TrainingDateReservationNumDto> reservationNumMap = availableDateRepository.findReservationNumsByTrainingId(trainingId).stream()
+                .collect(Collectors.toMap(TrainingDateReservationNumDto::getDate, dto -> dto));
+
+        return TrainingSchedule.getDateList(window.getStartDate(), window.getEndDate(), unableDates).stream()
+                .map(date -> reservationNumMap.getOrDefault(date, createTrainingDateReservationNumDto(null, date, 0L)))
+                .toList();
     }
 
-    private TrainingDateReservationNumDto createTrainingDateReservationNumDto(AvailableDate date, Long reservationNum) {
+    private TrainingDateReservationNumDto createTrainingDateReservationNumDto(Long dateId, LocalDate date, Long reservationNum) {
         return TrainingDateReservationNumDto.builder()
-                .id(date.getId())
-                .date(date.getDate())
+                .id(dateId)
+                .date(date)
                 .reservationNum(reservationNum)
                 .build();
     }
@@ -191,52 +191,38 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
     public Long updateTrainingDate(String email, Long trainingId, TrainingDateUpdateDto dto) {
         Training training = findTrainingById(trainingId);
         permissionValidate(training.getTrainer(), email);
+        scheduleOverlapValidate(training.getTrainer().getId(), trainingId, dto.getStartDate(), dto.getEndDate(), dto.getUnableDates(), training.getStartHour(), training.getEndHour());
 
-        List<LocalDate> newAvailableDateList = getAvailableDateList(dto.getStartDate(), dto.getEndDate(), dto.getUnableDates());
-        List<LocalTime> localTimeList = getAvailableTimeList(training.getStartHour(), training.getEndHour());
+        Set<LocalDate> unableDates = dto.getUnableDates() == null ? Collections.emptySet() : new HashSet<>(dto.getUnableDates());
 
-        List<AvailableDate> currentDateList = training.getAvailableDates();
+        // 저장된 날짜는 예약되었던 날짜뿐이므로 새 예약 규칙(기간, 예약 불가 날짜)에서 빠지는 날짜만 확인
+        List<AvailableDate> datesToRemove = training.getAvailableDates().stream()
+                .filter(date -> date.getDate().isBefore(dto.getStartDate()) || date.getDate().isAfter(dto.getEndDate()) || unableDates.contains(date.getDate()))
+                .toList();
 
-        updateNewDateListAndDeleteDate(currentDateList, newAvailableDateList, training);
-        linkDateTimeToTraining(newAvailableDateList, localTimeList, training);
+        if (!datesToRemove.isEmpty()) {
+            deleteDates(datesToRemove.stream().map(AvailableDate::getId).toList());
+        }
 
-        training.updateStartAndEndDate(dto.getStartDate(), dto.getEndDate());
+        training.updateSchedule(dto.getStartDate(), dto.getEndDate(), dto.getUnableDates());
+        trainingScheduleStateService.refreshRemainingSlots(training);
+        eventPublisher.publishEvent(new TrainingUpdateEvent(trainingId));
+        eventPublisher.publishEvent(new TrainerScheduleChangeEvent(training.getTrainer().getId()));
         return trainingId;
     }
 
-    public void updateNewDateListAndDeleteDate(List<AvailableDate> currentDateList, List<LocalDate> newAvailableDateList, Training training) {
-        List<AvailableDate> datesToRemove = new ArrayList<>();
-
-        for (AvailableDate date : currentDateList) {
-            if (newAvailableDateList.contains(date.getDate())) {
-                newAvailableDateList.remove(date.getDate());
-            } else {
-                datesToRemove.add(date);
-            }
-        }
-
-        for (AvailableDate date : datesToRemove) {
-            handleDeleteData(date, training);
+    private void deleteDates(List<Long> dateIds) {
+        List<LocalDate> reservedDates = reserveInfoRepository.findDatesByAvailableDateIdInAndStatus(dateIds, ReserveStatus.BEFORE);
+        if (!reservedDates.isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, reservedDates.stream().sorted().map(LocalDate::toString).collect(Collectors.joining(", ")) + "일에 진행 전 예약이 존재하여 수정할 수 없습니다.");
         }
-    }
-
-    private void handleDeleteData(AvailableDate date, Training training) {
-        List<ReserveStatus> statusList = reserveInfoRepository.findStatusByAvailableDateId(date.getId());
-        checkListContainsBefore(statusList, date.getDate());
 
-        if (statusList.isEmpty()) {
-            training.removeDate(date);
-            availableDateRepository.delete(date);
-        } else {
-            date.deleteDate();
-        }
-    }
-
-    private void checkListContainsBefore(List<ReserveStatus> statusList, LocalDate date) {
-        for (ReserveStatus status : statusList) {
-            if (status == ReserveStatus.BEFORE) {
-                throw new CustomException(ErrorCode.BAD_REQUEST, date + "일에 진행 전 예약이 존재하여 수정할 수 없습니다.");
-            }
+        // 지난 예약 내역이 있는 날짜는 남겨두고, 예약 규칙에서 빠졌으므로 예약 가능한 날짜로 계산되지 않음
+        Set<Long> historyDateIds = new HashSet<>(reserveInfoRepository.findAvailableDateIdsByAvailableDateIdIn(dateIds));
+        List<Long> deletableDateIds = dateIds.stream().filter(id -> !historyDateIds.contains(id)).toList();
+        if (!deletableDateIds.isEmpty()) {
+            availableTimeRepository.deleteAllByAvailableDateIdIn(deletableDateIds);
+            availableDateRepository.deleteAllByIdIn(deletableDateIds);
         }
     }
 
@@ -289,10 +275,15 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
         permissionValidate(training.getTrainer(), email);
         checkNonDeletableStatusExistsInReservation(id);
 
-        trainingLikesRepository.deleteAll(trainingLikesRepository.findByTrainingId(id));
+        List<TrainingLikes> trainingLikes = trainingLikesRepository.findByTrainingId(id);
+        trainingLikesRepository.deleteAll(trainingLikes);
+        trainingLikes.forEach(likes -> userMembershipService.remove(MembershipType.TRAINING_LIKES, likes.getUser().getId(), id));
         deleteTrainingDocument(id);
 
         executeDeleteTraining(training);
+        trainingPopularityService.remove(id);
+        eventPublisher.publishEvent(new TrainingUpdateEvent(id));
+        eventPublisher.publishEvent(new TrainerScheduleChangeEvent(training.getTrainer().getId()));
     }
 
     private void checkNonDeletableStatusExistsInReservation(Long id) {
@@ -312,8 +303,9 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
 
     private void executeDeleteTraining(Training training) {
         if (reserveInfoRepository.existsByTrainingId(training.getId())) {
-            training.executeDelete();
+            trainingScheduleStateService.deleteSchedule(training);
         } else {
+            trainingScheduleStateService.removeSchedule(training);
             trainingRepository.delete(training);
         }
     }
@@ -324,18 +316,8 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
         Training training = findTrainingById(id);
         permissionValidate(training.getTrainer(), user.getEmail());
 
-        closeAvailableDates(training.getAvailableDates());
-
-        training.updateClosed(true);
-    }
-
-    private void closeAvailableDates(List<AvailableDate> availableDates) {
-        availableDates.forEach(this::closeAvailableTimes);
-    }
-
-    private void closeAvailableTimes(AvailableDate availableDate) {
-        availableDate.getAvailableTimes().forEach(AvailableTime::closeTime);
-        availableDate.closeDate();
+        trainingScheduleStateService.closeSchedule(training);
+        eventPublisher.publishEvent(new TrainingUpdateEvent(id));
     }
 
     @Override
@@ -350,22 +332,8 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
             throw new CustomException(ErrorCode.UNCORRECTABLE_DATA, "트레이닝 마지막 예약 날짜가 현재 날짜 이후가 아니므로 불가능");
         }
 
-        List<ReserveInfo> reserveInfoList = reserveInfoRepository.findByTrainingIdAndStatus(training.getId(), ReserveStatus.BEFORE);
-        List<AvailableTime> reservedTimeList = reserveInfoList.stream().map(ReserveInfo::getAvailableTime).toList();
-        List<AvailableDate> availableDates = training.getAvailableDates();
-        availableDates.stream()
-                .filter(availableDate -> availableDate.getDate().isAfter(currentDate))
-                .forEach(availableDate -> openAvailableDate(availableDate, reservedTimeList));
-
-        training.updateClosed(false);
-    }
-
-    private void openAvailableDate(AvailableDate availableDate, List<AvailableTime> reservedTimeList) {
-        LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
-        availableDate.getAvailableTimes().stream()
-                .filter(availableTime -> !reservedTimeList.contains(availableTime) && availableTime.getTime().isAfter(now))
-                .forEach(AvailableTime::openTime);
-        availableDate.openDate();
+        trainingScheduleStateService.openSchedule(training, currentDate);
+        eventPublisher.publishEvent(new TrainingUpdateEvent(id));
     }
 
     @Override
@@ -411,7 +379,10 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
 
     private void lockReviewIfPresent(Long reserveInfoId) {
         Optional<TrainingReview> optionalTrainingReview = trainingReviewRepository.findByReserveInfoId(reserveInfoId);
-        optionalTrainingReview.ifPresent(TrainingReview::lock);
+        optionalTrainingReview.filter(review -> !review.isLocked()).ifPresent(review -> {
+            review.lock();
+            trainerRatingStatsRepository.removeReview(review.getTraining().getTrainer().getId(), review.getStar());
+        });
     }
 
     private Trainer findTrainerByUserId (Long userId) {
@@ -424,33 +395,6 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당하는 트레이닝을 찾을 수 없습니다."));
     }
 
-    private List<LocalDate> getAvailableDateList(LocalDate startLocalDate, LocalDate endLocalDate, List<LocalDate> unableDates) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(Date.valueOf(startLocalDate));
-
-        List<LocalDate> dateList = new ArrayList<>();
-        Date endDate = Date.valueOf(endLocalDate.plusDays(1));
-
-        while (!calendar.getTime().equals(endDate)) {
-            LocalDate date = calendar.getTime().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-            if (!unableDates.contains(date)) {
-                dateList.add(date);
-            }
-            calendar.add(Calendar.DATE, 1);
-        }
-
-        return dateList;
-    }
-
-    private List<LocalTime> getAvailableTimeList(LocalTime startHour, LocalTime endHour) {
-        List<LocalTime> timeList = new ArrayList<>();
-        while (!startHour.equals(endHour)) {
-            timeList.add(startHour);
-            startHour = startHour.plusHours(1);
-        }
-        return timeList;
-    }
-
     public void dateValidate(LocalDate startDate, LocalDate endDate) {
         LocalDate now = LocalDate.now();
         if (startDate.isBefore(now) || endDate.isBefore(now) || endDate.isBefore(startDate)) {
@@ -458,6 +402,13 @@ public class TrainerTrainingServiceImpl implements TrainerTrainingService {
         }
     }
 
+    private void scheduleOverlapValidate(Long trainerId, Long trainingId, LocalDate startDate, LocalDate endDate,
+                                         List<LocalDate> unableDates, LocalTime startHour, LocalTime endHour) {
+        if (trainerScheduleIndexCache.get(trainerId).overlaps(startDate, endDate, unableDates, startHour, endHour, trainingId)) {
+            throw new CustomException(ErrorCode.DATE_OR_TIME_ERROR, "다른 트레이닝의 일정과 겹치는 날짜, 시간이 있습니다.");
+        }
+    }
+
     public void permissionValidate(Trainer trainer, String email) {
         if (!trainer.getEmail().equals(email)) {
             throw new CustomException(ErrorCode.PERMISSION_DENIED, "해당 트레이닝을 수정할 권한이 없습니다.");
@@ -0,0 +1,107 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingUpdateEvent;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingKeywordIndex;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingLocationIndex;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+// 변경된 트레이닝을 이 서버의 색인에 바로 반영하고, 다른 서버에는 Redis pub/sub으로 알려 같은 트레이닝을 다시 읽게 함
+// 이벤트 없이 일괄 마감되는 트레이닝과 유실된 메시지는 주기적인 전체 재생성으로 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainingIndexListener implements MessageListener {
+
+    private final TrainingRepository trainingRepository;
+    private final TrainingKeywordIndex trainingKeywordIndex;
+    private final TrainingLocationIndex trainingLocationIndex;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String updateChannel = "training:index:update";
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnlyTransaction.setReadOnly(true);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(updateChannel));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTrainingUpdate(TrainingUpdateEvent event) {
+        refresh(event.getTrainingId());
+        try {
+            redisTemplate.convertAndSend(updateChannel, instanceId + ":" + event.getTrainingId());
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 검색 색인 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    // 자신이 보낸 메시지는 이미 반영했으므로 무시
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+
+        try {
+            refresh(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 트레이닝 검색 색인 변경 메시지: {}", body);
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 검색 색인 변경 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private void refresh(Long trainingId) {
+        readOnlyTransaction.executeWithoutResult(status -> trainingRepository.findById(trainingId)
+                .filter(training -> !training.isClosed() && !training.isDeleted())
+                .ifPresentOrElse(training -> {
+                    trainingKeywordIndex.put(training);
+                    trainingLocationIndex.put(training);
+                }, () -> {
+                    trainingKeywordIndex.remove(trainingId);
+                    trainingLocationIndex.remove(trainingId);
+                }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Training> trainings = trainingRepository.findAllOpenFetchCategories();
+        trainingKeywordIndex.rebuild(trainings);
+        trainingLocationIndex.rebuild(trainings);
+        log.info("트레이닝 검색 색인 생성 완료");
+    }
+}
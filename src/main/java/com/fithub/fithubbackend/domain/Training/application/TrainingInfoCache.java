@@ -0,0 +1,189 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingInfoDto;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingSlotChangeEvent;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingUpdateEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+// 트레이닝 상세 조회 캐시. 서버 메모리(L1) -> Redis(L2) -> DB 순으로 조회
+// 예약 가능 시간은 정각마다 바뀌므로 모든 항목은 늦어도 다음 정각에 만료됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainingInfoCache implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final String keyPrefix = "training:info:";
+    private final String evictChannel = "training:info:evict";
+    private final Duration localTtl = Duration.ofMinutes(1);
+    private final Duration redisTtl = Duration.ofMinutes(5);
+    private final long localMaxSize = 1000;
+    private final Duration versionTtl = Duration.ofHours(1);
+    private final int maxLoadCount = 2;
+
+    // 변경될 때마다 version을 올리고 캐시를 지움
+    private final RedisScript<Long> evictScript = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) return redis.call('del', KEYS[1])", Long.class);
+    // DB를 읽기 전의 version 그대로일 때만 저장. 읽는 동안 변경이 커밋되었으면 이전 값을 저장하지 않음
+    private final RedisScript<Long> saveScript = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1", Long.class);
+
+    private Cache<Long, TrainingInfoDto> localCache;
+    private Counter redisHit;
+    private Counter redisMiss;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<Long, TrainingInfoDto>() {
+                    @Override
+                    public long expireAfterCreate(Long key, TrainingInfoDto value, long currentTime) {
+                        return ttlUntilNextHour(localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, TrainingInfoDto value, long currentTime, long currentDuration) {
+                        return ttlUntilNextHour(localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, TrainingInfoDto value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "training.info.local");
+
+        redisHit = Counter.builder("training.info.redis").tag("result", "hit").register(meterRegistry);
+        redisMiss = Counter.builder("training.info.redis").tag("result", "miss").register(meterRegistry);
+
+        // 다른 서버에서 변경된 트레이닝을 서버 메모리에서도 지움
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(evictChannel));
+    }
+
+    // 같은 트레이닝을 동시에 조회하면 한 요청만 Redis, DB를 조회하고 나머지는 그 결과를 기다림
+    public TrainingInfoDto get(Long trainingId, Function<Long, TrainingInfoDto> loader) {
+        return localCache.get(trainingId, id -> getFromRedis(id, loader));
+    }
+
+    private TrainingInfoDto getFromRedis(Long trainingId, Function<Long, TrainingInfoDto> loader) {
+        String key = keyPrefix + trainingId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                redisHit.increment();
+                return objectMapper.readValue(cached, TrainingInfoDto.class);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("트레이닝 상세 캐시 조회 실패: {}", e.getMessage());
+        }
+        redisMiss.increment();
+
+        // 조회 중에 변경되면 변경 이후 값으로 한 번 더 조회
+        TrainingInfoDto dto = null;
+        for (int loadCount = 0; loadCount < maxLoadCount; loadCount++) {
+            String version = getVersion(trainingId);
+            dto = loader.apply(trainingId);
+            if (version == null || save(trainingId, version, dto)) {
+                break;
+            }
+        }
+        return dto;
+    }
+
+    private String getVersion(Long trainingId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(trainingId));
+            return version == null ? "0" : version;
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 상세 캐시 version 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean save(Long trainingId, String version, TrainingInfoDto dto) {
+        try {
+            Long saved = redisTemplate.execute(saveScript, List.of(keyPrefix + trainingId, versionKey(trainingId)),
+                    version, objectMapper.writeValueAsString(dto), String.valueOf(ttlUntilNextHour(redisTtl).toMillis()));
+            return saved != null && saved == 1;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("트레이닝 상세 캐시 저장 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTrainingUpdate(TrainingUpdateEvent event) {
+        evict(event.getTrainingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTrainingSlotChange(TrainingSlotChangeEvent event) {
+        evict(event.getTrainingId());
+    }
+
+    public void evict(Long trainingId) {
+        localCache.invalidate(trainingId);
+        try {
+            redisTemplate.execute(evictScript, List.of(keyPrefix + trainingId, versionKey(trainingId)), String.valueOf(versionTtl.toMillis()));
+            redisTemplate.convertAndSend(evictChannel, String.valueOf(trainingId));
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 상세 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 트레이닝 상세 캐시 삭제 메시지: {}", e.getMessage());
+        }
+    }
+
+    private String versionKey(Long trainingId) {
+        return keyPrefix + "version:" + trainingId;
+    }
+
+    private Duration ttlUntilNextHour(Duration ttl) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        Duration untilNextHour = Duration.between(now, now.truncatedTo(ChronoUnit.HOURS).plusHours(1));
+        return untilNextHour.compareTo(ttl) < 0 ? untilNextHour : ttl;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TrainingPopularityService {
+    void addLikes(Long trainingId, LocalDateTime occurredAt);
+    void removeLikes(Long trainingId, LocalDateTime occurredAt);
+    void addReservation(Long trainingId, LocalDateTime occurredAt);
+    void removeReservation(Long trainingId, LocalDateTime occurredAt);
+    void remove(Long trainingId);
+
+    List<Long> findTopTrainingIds(int size);
+    Long findRank(Long trainingId);
+    void rebuild(long fencingToken);
+}
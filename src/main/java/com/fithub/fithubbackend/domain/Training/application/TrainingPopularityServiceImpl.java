@@ -0,0 +1,158 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.repository.ReserveInfoRepository;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingLikesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+// 트레이닝 인기 순위. 찜, 결제된 예약마다 점수를 더하고 반감기마다 점수의 가치가 절반이 됨
+// 오래된 점수를 줄이는 대신 새 점수를 기준 시각(epoch)부터 지난 시간만큼 키워서 더하므로 갱신은 ZINCRBY 한 번
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainingPopularityServiceImpl implements TrainingPopularityService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final TrainingLikesRepository trainingLikesRepository;
+    private final ReserveInfoRepository reserveInfoRepository;
+
+    private final String scoreKey = "training:popularity";
+    private final String epochKey = "training:popularity:epoch";
+    private final String rebuildKey = "training:popularity:rebuild";
+    private final String fenceKey = "training:popularity:fence";
+
+    private final double likesWeight = 1.0;
+    private final double reservationWeight = 3.0;
+    private final long halfLifeSeconds = 7 * 24 * 60 * 60L;
+
+    // epoch가 없으면 현재 시각을 epoch로 사용
+    private final RedisScript<String> incrementScript = new DefaultRedisScript<>(
+            "local epoch = redis.call('get', KEYS[2]) " +
+                    "if not epoch then epoch = ARGV[2] redis.call('set', KEYS[2], epoch) end " +
+                    "local score = tonumber(ARGV[1]) * math.pow(2, (tonumber(ARGV[2]) - tonumber(epoch)) / tonumber(ARGV[3])) " +
+                    "return redis.call('zincrby', KEYS[1], score, ARGV[4])", String.class);
+
+    // 재계산한 점수와 epoch를 한 번에 교체. lease가 만료된 뒤 늦게 끝난 이전 leader의 결과는 버림
+    private final RedisScript<Long> swapScript = new DefaultRedisScript<>(
+            "if tonumber(redis.call('get', KEYS[4]) or '0') > tonumber(ARGV[2]) then redis.call('del', KEYS[1]) return 0 end " +
+                    "redis.call('set', KEYS[4], ARGV[2]) " +
+                    "if redis.call('exists', KEYS[1]) == 1 then redis.call('rename', KEYS[1], KEYS[2]) else redis.call('del', KEYS[2]) end " +
+                    "redis.call('set', KEYS[3], ARGV[1]) return 1", Long.class);
+
+    @Override
+    public void addLikes(Long trainingId, LocalDateTime occurredAt) {
+        increment(trainingId, likesWeight, occurredAt);
+    }
+
+    @Override
+    public void removeLikes(Long trainingId, LocalDateTime occurredAt) {
+        increment(trainingId, -likesWeight, occurredAt);
+    }
+
+    @Override
+    public void addReservation(Long trainingId, LocalDateTime occurredAt) {
+        increment(trainingId, reservationWeight, occurredAt);
+    }
+
+    @Override
+    public void removeReservation(Long trainingId, LocalDateTime occurredAt) {
+        increment(trainingId, -reservationWeight, occurredAt);
+    }
+
+    @Override
+    public void remove(Long trainingId) {
+        afterCommit(() -> redisTemplate.opsForZSet().remove(scoreKey, String.valueOf(trainingId)));
+    }
+
+    @Override
+    public List<Long> findTopTrainingIds(int size) {
+        Set<String> top = redisTemplate.opsForZSet().reverseRange(scoreKey, 0, size - 1);
+        if (top == null) {
+            return Collections.emptyList();
+        }
+        return top.stream().map(Long::valueOf).toList();
+    }
+
+    // 1위부터 시작, 순위에 없으면 null
+    @Override
+    public Long findRank(Long trainingId) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(scoreKey, String.valueOf(trainingId));
+        return rank != null ? rank + 1 : null;
+    }
+
+    // DB의 찜, 결제된 예약으로 전체 점수를 다시 계산. epoch도 현재 시각으로 옮겨서 점수가 계속 커지지 않도록 함
+    @Override
+    public void rebuild(long fencingToken) {
+        long epochSeconds = Instant.now().getEpochSecond();
+        LocalDateTime epoch = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+
+        Map<String, Double> scores = new HashMap<>();
+        addScores(scores, trainingLikesRepository.sumDecayedLikesByTraining(epoch, halfLifeSeconds), likesWeight);
+        addScores(scores, reserveInfoRepository.sumDecayedPaidReservationsByTraining(epoch, halfLifeSeconds), reservationWeight);
+
+        // 이전 leader와 임시 키가 섞이지 않도록 fencing token별로 만듦
+        String tokenRebuildKey = rebuildKey + ":" + fencingToken;
+        redisTemplate.delete(tokenRebuildKey);
+        if (!scores.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            scores.forEach((id, score) -> tuples.add(ZSetOperations.TypedTuple.of(id, score)));
+            redisTemplate.opsForZSet().add(tokenRebuildKey, tuples);
+        }
+        Long swapped = redisTemplate.execute(swapScript, List.of(tokenRebuildKey, scoreKey, epochKey, fenceKey),
+                String.valueOf(epochSeconds), String.valueOf(fencingToken));
+        if (swapped == null || swapped == 0) {
+            log.warn("만료된 lease로 트레이닝 인기 순위 재계산 시도, fencing token: {}", fencingToken);
+            return;
+        }
+        log.info("트레이닝 인기 순위 재계산: {}개", scores.size());
+    }
+
+    private void addScores(Map<String, Double> scores, List<Object[]> rows, double weight) {
+        for (Object[] row : rows) {
+            scores.merge(String.valueOf(((Number) row[0]).longValue()), ((Number) row[1]).doubleValue() * weight, Double::sum);
+        }
+    }
+
+    // 취소는 원래 찜, 예약 시각 기준으로 빼야 더했던 점수와 정확히 상쇄됨
+    private void increment(Long trainingId, double weight, LocalDateTime occurredAt) {
+        long occurredSeconds = (occurredAt != null ? occurredAt.atZone(ZoneId.systemDefault()).toInstant() : Instant.now()).getEpochSecond();
+        afterCommit(() -> redisTemplate.execute(incrementScript, List.of(scoreKey, epochKey),
+                String.valueOf(weight), String.valueOf(occurredSeconds), String.valueOf(halfLifeSeconds), String.valueOf(trainingId)));
+    }
+
+    // 롤백된 변경은 반영하지 않고, 순위 갱신 실패가 요청을 실패시키지 않도록 함. 누락분은 재계산 때 보정
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                log.warn("트레이닝 인기 순위 갱신 실패: {}", e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
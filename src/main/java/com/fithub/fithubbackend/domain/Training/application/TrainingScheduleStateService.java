@@ -0,0 +1,17 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface TrainingScheduleStateService {
+    void closeSchedule(Training training);
+    void openSchedule(Training training, LocalDate currentDate);
+    void deleteSchedule(Training training);
+    void removeSchedule(Training training);
+    void refreshRemainingSlots(Training training);
+    LocalDateTime getSweptDateTime();
+    boolean initializeRemainingSlots();
+    int expirePassedSlots(LocalDateTime sweepTo, long fencingToken);
+}
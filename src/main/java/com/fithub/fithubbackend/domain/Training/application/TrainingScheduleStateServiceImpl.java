@@ -0,0 +1,143 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingSchedule;
+import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
+import com.fithub.fithubbackend.domain.Training.repository.AvailableDateRepository;
+import com.fithub.fithubbackend.domain.Training.repository.AvailableTimeRepository;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.global.domain.ScheduleWatermark;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 트레이닝의 날짜, 시간 상태를 엔티티 조회 없이 UPDATE/DELETE 문으로 일괄 변경
+@Service
+@RequiredArgsConstructor
+public class TrainingScheduleStateServiceImpl implements TrainingScheduleStateService {
+
+    private final AvailableDateRepository availableDateRepository;
+    private final AvailableTimeRepository availableTimeRepository;
+    private final TrainingRepository trainingRepository;
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 이 시각까지의 예약 시간은 남은 시간 수에서 빠져 있음
+    private final String sweptWatermark = "training-sweep";
+
+    private TransactionTemplate hourTransaction;
+
+    // 스케줄러 트랜잭션 안에서 호출되어도 시간마다 따로 커밋
+    @PostConstruct
+    public void init() {
+        hourTransaction = new TransactionTemplate(transactionManager);
+        hourTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void closeSchedule(Training training) {
+        availableDateRepository.closeAllByTrainingId(training.getId());
+        training.updateClosed(true);
+    }
+
+    @Override
+    @Transactional
+    public void openSchedule(Training training, LocalDate currentDate) {
+        // 진행 전 예약이 잡힌 시간은 그대로 두고 나머지 시간만 오픈
+        availableTimeRepository.openAllByTrainingIdAndDateAfter(training.getId(), currentDate, ReserveStatus.BEFORE);
+        availableDateRepository.openAllByTrainingIdAndDateAfter(training.getId(), currentDate);
+        training.updateClosed(false);
+        refreshRemainingSlots(training);
+    }
+
+    @Override
+    @Transactional
+    public void refreshRemainingSlots(Training training) {
+        LocalDateTime sweptDateTime = getSweptDateTime();
+        TrainingSchedule schedule = TrainingSchedule.of(training);
+
+        availableDateRepository.refreshRemainingSlotsByTrainingId(training.getId(), schedule.getTimes().size(),
+                sweptDateTime.toLocalDate(), schedule.countTimesAfter(sweptDateTime.toLocalDate(), sweptDateTime), sweptDateTime);
+        trainingRepository.refreshRemainingSlots(training.getId(), schedule.countSlotsAfter(sweptDateTime), sweptDateTime);
+    }
+
+    // 스케줄러와 같은 기준 시각으로 계산해야 지난 시간이 두 번 빠지거나 빠지지 않는 일이 없음
+    @Override
+    @Transactional
+    public LocalDateTime getSweptDateTime() {
+        return scheduleWatermarkRepository.findByNameForShare(sweptWatermark)
+                .map(ScheduleWatermark::getProcessedDateTime)
+                .orElseGet(() -> LocalDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.HOURS));
+    }
+
+    // 기준 시각이 처음 만들어질 때 한 번만 모든 트레이닝의 남은 시간 수를 다시 계산
+    @Override
+    @Transactional
+    public boolean initializeRemainingSlots() {
+        LocalDateTime sweptDateTime = LocalDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.HOURS);
+        if (scheduleWatermarkRepository.saveIfAbsent(sweptWatermark, sweptDateTime) == 0) {
+            return false;
+        }
+        trainingRepository.findAllNotEndedFetchUnableDates(sweptDateTime.toLocalDate()).forEach(this::refreshRemainingSlots);
+        return true;
+    }
+
+    // 기준 시각 이후 sweepTo까지 지난 시간마다 예약되지 않은 시간을 남은 시간 수에서 빼고, 예약이 다시 열린 시간을 닫음
+    // 서버가 멈춰 있던 동안 지난 시간도 이어서 처리하되, 한 시간씩 각각의 트랜잭션으로 커밋해 잠금을 오래 잡지 않음
+    @Override
+    public int expirePassedSlots(LocalDateTime sweepTo, long fencingToken) {
+        int expired = 0;
+        Integer hourExpired;
+        while ((hourExpired = hourTransaction.execute(status -> expireNextHour(sweepTo, fencingToken))) != null) {
+            expired += hourExpired;
+        }
+        return expired;
+    }
+
+    // 기준 시각 다음 한 시간을 처리하고 같은 트랜잭션에서 기준 시각을 옮김. 처리할 시간이 없거나 만료된 lease면 null
+    private Integer expireNextHour(LocalDateTime sweepTo, long fencingToken) {
+        ScheduleWatermark watermark = scheduleWatermarkRepository.findByName(sweptWatermark).orElse(null);
+        if (watermark == null || watermark.isFencedBy(fencingToken)) {
+            return null;
+        }
+
+        LocalDateTime slot = watermark.getProcessedDateTime().plusHours(1);
+        if (slot.isAfter(sweepTo)) {
+            return null;
+        }
+
+        int expired = trainingRepository.expireSlots(slot.toLocalDate(), slot.toLocalTime());
+        availableDateRepository.expireSlots(slot.toLocalDate(), slot.toLocalTime());
+        availableTimeRepository.closeTimes(slot.toLocalDate(), slot.toLocalTime());
+
+        watermark.updateProcessedDateTime(slot, fencingToken);
+        scheduleWatermarkRepository.save(watermark);
+        return expired;
+    }
+
+    @Override
+    @Transactional
+    public void deleteSchedule(Training training) {
+        availableTimeRepository.deleteSoftByTrainingId(training.getId());
+        availableDateRepository.deleteSoftByTrainingId(training.getId());
+        training.executeDelete();
+    }
+
+    @Override
+    @Transactional
+    public void removeSchedule(Training training) {
+        availableTimeRepository.deleteAllByTrainingId(training.getId());
+        availableDateRepository.deleteAllByTrainingId(training.getId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.fithub.fithubbackend.domain.Training.application;
 
+import com.fithub.fithubbackend.domain.Training.dto.TrainingCursorPageDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingInfoDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingOutlineDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingSearchConditionDto;
@@ -11,9 +12,14 @@ import java.util.List;
 
 public interface TrainingService {
     Page<TrainingOutlineDto> searchAll(Pageable pageable);
+    TrainingCursorPageDto searchAllByCursor(String cursor, Pageable pageable, boolean withCount);
     TrainingInfoDto searchById(Long id);
     List<TrainingReviewDto> getTrainingReviews(Long id);
 
     Page<TrainingOutlineDto> searchTrainingByConditions(TrainingSearchConditionDto conditions, Pageable pageable);
-    List<TrainingOutlineDto> searchTrainingByLocation(Double latitude, Double longitude);
+    TrainingCursorPageDto searchTrainingByConditionsByCursor(TrainingSearchConditionDto conditions, String cursor, Pageable pageable, boolean withCount);
+    Page<TrainingOutlineDto> searchTrainingByLocation(Double latitude, Double longitude, double radius, Pageable pageable);
+
+    List<TrainingOutlineDto> searchPopularTrainings(int size);
+    Long getPopularityRank(Long trainingId);
 }
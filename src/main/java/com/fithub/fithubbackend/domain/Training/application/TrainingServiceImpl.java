@@ -2,27 +2,33 @@ package com.fithub.fithubbackend.domain.Training.application;
 
 import com.fithub.fithubbackend.domain.Training.domain.Training;
 import com.fithub.fithubbackend.domain.Training.domain.TrainingReview;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingSchedule;
 import com.fithub.fithubbackend.domain.Training.dto.*;
 import com.fithub.fithubbackend.domain.Training.dto.review.TrainingReviewDto;
-import com.fithub.fithubbackend.domain.Training.enums.Direction;
+import com.fithub.fithubbackend.domain.Training.repository.AvailableTimeRepository;
 import com.fithub.fithubbackend.domain.Training.repository.CustomTrainingRepository;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingLocationIndex;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingReviewRepository;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
-import com.fithub.fithubbackend.global.util.GeometryUtil;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
+import com.fithub.fithubbackend.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKTReader;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,21 +36,51 @@ public class TrainingServiceImpl implements TrainingService {
 
     private final TrainingRepository trainingRepository;
     private final TrainingReviewRepository trainingReviewRepository;
+    private final AvailableTimeRepository availableTimeRepository;
 
     private final CustomTrainingRepository customTrainingRepository;
-
-    private final EntityManager entityManager;
+    private final TrainingLocationIndex trainingLocationIndex;
+    private final TrainingPopularityService trainingPopularityService;
+    private final TrainingInfoCache trainingInfoCache;
+    private final RedisUtil redisUtil;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String countCacheKeyPrefix = "training:count:";
+    private final long countCacheTime = 60000L;
+    private final double maxSearchRadius = 20.0;
+    private final int maxPopularSize = 50;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TrainingOutlineDto> searchAll(Pageable pageable) {
-        Page<Training> trainingPage = trainingRepository.findAllByDeletedFalseAndClosedFalse(pageable);
-        return trainingPage.map(TrainingOutlineDto::toDto);
+        return customTrainingRepository.searchByConditions(new TrainingSearchConditionDto(), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public TrainingCursorPageDto searchAllByCursor(String cursor, Pageable pageable, boolean withCount) {
+        return searchByCursor(new TrainingSearchConditionDto(), cursor, pageable, withCount);
+    }
+
+    @Override
     public TrainingInfoDto searchById(Long id) {
+        return trainingInfoCache.get(id, this::loadTrainingInfo);
+    }
+
+    // 캐시에 없을 때만 조회. 캐시를 기다리는 동안에는 DB 커넥션을 잡지 않도록 조회할 때만 트랜잭션 시작
+    private TrainingInfoDto loadTrainingInfo(Long id) {
+        return readOnlyTransaction.execute(status -> findTrainingInfo(id));
+    }
+
+    private TrainingInfoDto findTrainingInfo(Long id) {
         Training training = trainingRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당하는 트레이닝이 존재하지 않습니다."));
         if (training.isDeleted()) {
             throw new CustomException(ErrorCode.BAD_REQUEST, "삭제된 트레이닝입니다.");
@@ -55,6 +91,10 @@ public class TrainingServiceImpl implements TrainingService {
             List<TrainingDocumentDto> images = training.getImages().stream().map(TrainingDocumentDto::toDto).toList();
             dto.updateImages(images);
         }
+
+        TrainingSchedule schedule = TrainingSchedule.of(training, availableTimeRepository.findClosedTimesByTrainingId(id));
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        dto.updateAvailableDates(schedule.getDates().stream().map(date -> TrainingAvailableDateDto.toDto(schedule, date, now)).toList());
         return dto;
     }
 
@@ -65,58 +105,101 @@ public class TrainingServiceImpl implements TrainingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TrainingOutlineDto> searchTrainingByConditions(TrainingSearchConditionDto conditions, Pageable pageable) {
-        Page<Training> trainingList = customTrainingRepository.searchByConditions(conditions, pageable);
-        return trainingList.map(TrainingOutlineDto::toDto);
+        return customTrainingRepository.searchByConditions(conditions, pageable);
     }
 
-    public List<TrainingOutlineDto> searchTrainingByLocation(Double latitude, Double longitude) {
-        Location northEast = GeometryUtil.calculate(latitude, longitude, 2.0, Direction.NORTHEAST.getBearing());
-        Location southWest = GeometryUtil.calculate(latitude, longitude, 2.0, Direction.SOUTHWEST.getBearing());
+    @Override
+    @Transactional(readOnly = true)
+    public TrainingCursorPageDto searchTrainingByConditionsByCursor(TrainingSearchConditionDto conditions, String cursor, Pageable pageable, boolean withCount) {
+        return searchByCursor(conditions, cursor, pageable, withCount);
+    }
 
-        String pointFormat = formatPoint(northEast, southWest);
+    private TrainingCursorPageDto searchByCursor(TrainingSearchConditionDto conditions, String cursor, Pageable pageable, boolean withCount) {
+        TrainingCursor trainingCursor = TrainingCursor.of(cursor, pageable.getSort());
 
-        List<Training> trainingList = findTrainingByLocation(pointFormat);
+        // 다음 목록이 있는지 확인하기 위해 하나 더 조회
+        List<TrainingOutlineDto> content = customTrainingRepository.searchByCursor(conditions, trainingCursor, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
 
-        return trainingList.stream().map(t -> {
-            TrainingOutlineDto dto = TrainingOutlineDto.toDto(t);
-            dto.updateDist(calcDist(latitude, longitude, t.getId()));
-            return dto;
-        }).toList();
+        return TrainingCursorPageDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? trainingCursor.next(content.get(content.size() - 1)).encode() : null)
+                .totalCount(withCount ? countByConditions(conditions) : null)
+                .build();
     }
 
-    private String formatPoint(Location northEast, Location southWest) {
-        return String.format(
-                "'LINESTRING(%f %f, %f %f)'",
-                northEast.getLongitude(), northEast.getLatitude(), southWest.getLongitude(), southWest.getLatitude()
-        );
+    // 전체 개수는 페이지마다 세지 않고 조건별로 잠시 캐시
+    private long countByConditions(TrainingSearchConditionDto conditions) {
+        String key = countCacheKeyPrefix + String.join("|",
+                String.valueOf(conditions.getKeyword()),
+                String.valueOf(conditions.getLowestPrice()),
+                String.valueOf(conditions.getHighestPrice()),
+                String.valueOf(conditions.getStartDate()),
+                String.valueOf(conditions.getEndDate()),
+                String.valueOf(conditions.getCategory()));
+
+        String cached = redisUtil.getData(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long count = customTrainingRepository.countByConditions(conditions);
+        redisUtil.setData(key, String.valueOf(count), countCacheTime);
+        return count;
     }
 
-    private List<Training> findTrainingByLocation(String pointFormat) {
-        Query query = entityManager.createNativeQuery(
-                "" +
-                        "SELECT * \n" +
-                        "FROM training AS t \n" +
-                        "WHERE t.deleted = false AND t.closed = false " +
-                        "AND " +
-                        "MBRContains(ST_LINESTRINGFROMTEXT(" + pointFormat + "), t.point) \n" +
-                        "ORDER BY t.id"
-                , Training.class
-        );
-        return query.getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TrainingOutlineDto> searchTrainingByLocation(Double latitude, Double longitude, double radius, Pageable pageable) {
+        if (radius <= 0 || radius > maxSearchRadius) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "검색 반경은 0km 초과 " + (int) maxSearchRadius + "km 이하로 지정해야 합니다.");
+        }
+
+        Page<TrainingLocationIndex.Nearby> nearbyPage = trainingLocationIndex.search(latitude, longitude, radius * 1000, pageable);
+        Map<Long, TrainingOutlineDto> outlineMap = customTrainingRepository.findOutlinesByIdIn(
+                nearbyPage.getContent().stream().map(TrainingLocationIndex.Nearby::getId).toList()
+        ).stream().collect(Collectors.toMap(TrainingOutlineDto::getId, dto -> dto));
+
+        List<TrainingOutlineDto> content = new ArrayList<>();
+        for (TrainingLocationIndex.Nearby nearby : nearbyPage.getContent()) {
+            TrainingOutlineDto dto = outlineMap.get(nearby.getId());
+            if (dto == null || dto.isClosed()) {
+                // 색인 반영 전에 마감, 삭제된 트레이닝
+                trainingLocationIndex.remove(nearby.getId());
+                continue;
+            }
+            dto.updateDist(nearby.getDist());
+            content.add(dto);
+        }
+        return new PageImpl<>(content, pageable, nearbyPage.getTotalElements());
     }
 
-    private Double calcDist(Double latitude, Double longitude, Long trainingId) {
-        Point point;
-        try {
-            point = (Point) new WKTReader().read(String.format("POINT(%s %s)", longitude, latitude));
-        } catch (ParseException e) {
-            throw new CustomException(ErrorCode.POINT_PARSING_ERROR);
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainingOutlineDto> searchPopularTrainings(int size) {
+        if (size <= 0 || size > maxPopularSize) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "조회 개수는 1 이상 " + maxPopularSize + " 이하로 지정해야 합니다.");
         }
 
-        if (point != null) {
-            return trainingRepository.findDistByPoint(point.getX(), point.getY(), trainingId);
+        // 마감된 트레이닝도 순위에 남아있으므로 여유 있게 가져와서 거름
+        List<Long> ids = trainingPopularityService.findTopTrainingIds(size * 2);
+        return customTrainingRepository.findOutlinesByIdIn(ids).stream()
+                .filter(dto -> !dto.isClosed())
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public Long getPopularityRank(Long trainingId) {
+        if (!trainingRepository.existsById(trainingId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 트레이닝입니다.");
         }
-        return null;
+        return trainingPopularityService.findRank(trainingId);
     }
 }
@@ -4,17 +4,22 @@ import com.fithub.fithubbackend.domain.Training.domain.Training;
 import com.fithub.fithubbackend.domain.Training.domain.TrainingLikes;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingLikesInfoDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingOutlineDto;
+import com.fithub.fithubbackend.domain.Training.repository.CustomTrainingRepository;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingLikesRepository;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.domain.user.application.UserMembershipService;
 import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,9 @@ public class UserTrainingLikeServiceImpl implements UserTrainingLikeService {
 
     private final TrainingRepository trainingRepository;
     private final TrainingLikesRepository trainingLikesRepository;
+    private final CustomTrainingRepository customTrainingRepository;
+    private final UserMembershipService userMembershipService;
+    private final TrainingPopularityService trainingPopularityService;
 
     @Override
     @Transactional(readOnly = true)
@@ -29,17 +37,13 @@ public class UserTrainingLikeServiceImpl implements UserTrainingLikeService {
         if (!trainingRepository.existsById(trainingId)) {
             throw new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 트레이닝입니다.");
         }
-        return trainingLikesRepository.existsByTrainingIdAndUserId(trainingId, user.getId());
+        return userMembershipService.isMember(MembershipType.TRAINING_LIKES, user.getId(), trainingId);
     }
 
     @Override
     public List<Boolean> checkGivenTrainingListIsLiked(List<Long> trainingIdList, User user) {
-        List<Boolean> likesStatusList = new ArrayList<>();
-        for (Long id : trainingIdList) {
-            boolean liked = trainingLikesRepository.existsByTrainingIdAndUserId(id, user.getId());
-            likesStatusList.add(liked);
-        }
-        return likesStatusList;
+        Set<Long> likedIds = userMembershipService.findMembers(MembershipType.TRAINING_LIKES, user.getId(), trainingIdList);
+        return trainingIdList.stream().map(likedIds::contains).toList();
     }
 
     @Override
@@ -58,6 +62,8 @@ public class UserTrainingLikeServiceImpl implements UserTrainingLikeService {
 
         TrainingLikes trainingLikes = TrainingLikes.builder().training(training).user(user).build();
         trainingLikesRepository.save(trainingLikes);
+        userMembershipService.add(MembershipType.TRAINING_LIKES, user.getId(), trainingId);
+        trainingPopularityService.addLikes(trainingId, trainingLikes.getCreatedDate());
     }
 
     private void checkClosed(boolean closed) {
@@ -75,14 +81,20 @@ public class UserTrainingLikeServiceImpl implements UserTrainingLikeService {
         TrainingLikes trainingLikes = trainingLikesRepository.findByTrainingIdAndUserId(trainingId, user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당 트레이닝을 찜하지 않았습니다."));
         trainingLikesRepository.delete(trainingLikes);
+        userMembershipService.remove(MembershipType.TRAINING_LIKES, user.getId(), trainingId);
+        trainingPopularityService.removeLikes(trainingId, trainingLikes.getCreatedDate());
     }
 
     @Override
     public List<TrainingLikesInfoDto> getTrainingLikesList(User user) {
         List<TrainingLikes> trainingLikes = trainingLikesRepository.findByUserId(user.getId());
+        Map<Long, TrainingOutlineDto> outlineMap = customTrainingRepository.findOutlinesByIdIn(
+                trainingLikes.stream().map(t -> t.getTraining().getId()).toList()
+        ).stream().collect(Collectors.toMap(TrainingOutlineDto::getId, dto -> dto));
+
         return trainingLikes.stream().map(t -> TrainingLikesInfoDto.builder()
                 .id(t.getId())
-                .trainingOutlineDto(TrainingOutlineDto.toDto(t.getTraining()))
+                .trainingOutlineDto(outlineMap.get(t.getTraining().getId()))
                 .build()).toList();
     }
 }
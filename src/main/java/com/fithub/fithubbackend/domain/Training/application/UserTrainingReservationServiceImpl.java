@@ -11,6 +11,7 @@ import com.fithub.fithubbackend.domain.Training.dto.review.UsersTrainingReviewDt
 import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
 import com.fithub.fithubbackend.domain.Training.repository.ReserveInfoRepository;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingReviewRepository;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRatingStatsRepository;
 import com.fithub.fithubbackend.domain.user.domain.User;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
@@ -31,6 +32,7 @@ public class UserTrainingReservationServiceImpl implements UserTrainingReservati
 
     private final ReserveInfoRepository reserveInfoRepository;
     private final TrainingReviewRepository trainingReviewRepository;
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -95,6 +97,7 @@ public class UserTrainingReservationServiceImpl implements UserTrainingReservati
                 .build();
 
         TrainingReview review = trainingReviewRepository.save(trainingReview);
+        trainerRatingStatsRepository.addReview(reserveInfo.getTraining().getTrainer().getId(), review.getStar());
         eventPublisher.publishEvent(createReviewNotifyRequest(reserveInfo));
         return review.getId();
     }
@@ -117,6 +120,9 @@ public class UserTrainingReservationServiceImpl implements UserTrainingReservati
         TrainingReview trainingReview = trainingReviewRepository.findById(reviewId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "수정하려는 리뷰가 존재하지 않습니다."));
         permissionValidate(user.getEmail(), trainingReview.getUser().getEmail());
 
+        if (!trainingReview.isLocked()) {
+            trainerRatingStatsRepository.changeStar(trainingReview.getTraining().getTrainer().getId(), trainingReview.getStar(), dto.getStar());
+        }
         trainingReview.updateReview(dto.getContent(), dto.getStar());
     }
 
@@ -125,6 +131,9 @@ public class UserTrainingReservationServiceImpl implements UserTrainingReservati
     public void deleteReview(User user, Long reviewId) {
         TrainingReview trainingReview = trainingReviewRepository.findById(reviewId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "해당하는 후기가 존재하지 않습니다."));
         permissionValidate(user.getEmail(), trainingReview.getUser().getEmail());
+        if (!trainingReview.isLocked()) {
+            trainerRatingStatsRepository.removeReview(trainingReview.getTraining().getTrainer().getId(), trainingReview.getStar());
+        }
         trainingReviewRepository.delete(trainingReview);
     }
 
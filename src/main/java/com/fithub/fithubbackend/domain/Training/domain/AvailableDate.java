@@ -9,13 +9,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Where;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"training_id", "date"}))
 @Where(clause = "deleted = false")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AvailableDate {
@@ -34,6 +39,16 @@ public class AvailableDate {
     @ColumnDefault("true")
     private boolean enabled;
 
+    @NotNull
+    @ColumnDefault("0")
+    @Comment("진행 전 예약 수")
+    private long reservationCount;
+
+    @NotNull
+    @ColumnDefault("0")
+    @Comment("예약되지 않은 시간 수")
+    private long remainingSlots;
+
     @OneToMany(mappedBy = "availableDate", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"availableDate"})
     private List<AvailableTime> availableTimes;
@@ -41,18 +56,11 @@ public class AvailableDate {
     private boolean deleted;
 
     @Builder
-    public AvailableDate (LocalDate date, boolean enabled) {
+    public AvailableDate (Training training, LocalDate date, boolean enabled) {
+        this.training = training;
         this.date = date;
         this.enabled = enabled;
-    }
-
-    public void updateAvailableTimes(List<AvailableTime> availableTimes) {
-        this.availableTimes = availableTimes;
-    }
-
-    public void addTraining(Training training) {
-        this.training = training;
-        training.getAvailableDates().add(this);
+        this.availableTimes = new ArrayList<>();
     }
 
     public void closeDate() {
@@ -62,13 +70,4 @@ public class AvailableDate {
     public void openDate() {
         this.enabled = true;
     }
-
-    public void deleteDate() {
-        closeDate();
-        this.deleted = true;
-        this.availableTimes.forEach(a -> {
-            a.closeTime();
-            a.deleteTime();
-        });
-    }
 }
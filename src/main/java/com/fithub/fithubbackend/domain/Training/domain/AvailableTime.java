@@ -12,6 +12,7 @@ import org.hibernate.annotations.Where;
 import java.time.LocalTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"available_date_id", "time"}))
 @Where(clause = "deleted = false")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,8 +48,4 @@ public class AvailableTime {
     public void openTime() {
         this.enabled = true;
     }
-
-    public void deleteTime() {
-        this.deleted = true;
-    }
 }
@@ -18,6 +18,7 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(columnList = "reserve_date_time, status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReserveInfo extends BaseTimeEntity {
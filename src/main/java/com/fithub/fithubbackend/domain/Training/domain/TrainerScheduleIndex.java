@@ -0,0 +1,90 @@
+package com.fithub.fithubbackend.domain.Training.domain;
+
+import com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingScheduleWindowDto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+// 트레이너의 트레이닝 일정을 날짜(epoch day)별 시간 범위로 모아 둔 색인
+// 새 일정과 겹치는지는 새 일정 기간에 해당하는 날짜만 찾아서 그 날짜의 시간 범위끼리 비교
+public class TrainerScheduleIndex {
+
+    private final NavigableMap<Long, List<Window>> windowsByDay;
+
+    private TrainerScheduleIndex(NavigableMap<Long, List<Window>> windowsByDay) {
+        this.windowsByDay = windowsByDay;
+    }
+
+    public static TrainerScheduleIndex of(List<TrainingScheduleWindowDto> rows) {
+        Map<Long, List<TrainingScheduleWindowDto>> rowsByTraining = new LinkedHashMap<>();
+        for (TrainingScheduleWindowDto row : rows) {
+            rowsByTraining.computeIfAbsent(row.getTrainingId(), id -> new ArrayList<>()).add(row);
+        }
+
+        NavigableMap<Long, List<Window>> windowsByDay = new TreeMap<>();
+        for (List<TrainingScheduleWindowDto> trainingRows : rowsByTraining.values()) {
+            TrainingScheduleWindowDto training = trainingRows.get(0);
+            List<LocalDate> unableDates = trainingRows.stream().map(TrainingScheduleWindowDto::getUnableDate).filter(Objects::nonNull).toList();
+            List<int[]> hourRanges = toHourRanges(training.getStartHour(), training.getEndHour());
+
+            for (LocalDate date : TrainingSchedule.getDateList(training.getStartDate(), training.getEndDate(), unableDates)) {
+                List<Window> windows = windowsByDay.computeIfAbsent(date.toEpochDay(), day -> new ArrayList<>());
+                for (int[] range : hourRanges) {
+                    windows.add(new Window(training.getTrainingId(), range[0], range[1]));
+                }
+            }
+        }
+        return new TrainerScheduleIndex(windowsByDay);
+    }
+
+    // excludeTrainingId: 예약 기간을 수정하는 트레이닝 자신은 비교 대상에서 제외
+    public boolean overlaps(LocalDate startDate, LocalDate endDate, Collection<LocalDate> unableDates,
+                            LocalTime startHour, LocalTime endHour, Long excludeTrainingId) {
+        Set<LocalDate> unableDateSet = unableDates == null ? Collections.emptySet() : new HashSet<>(unableDates);
+        List<int[]> hourRanges = toHourRanges(startHour, endHour);
+
+        for (Map.Entry<Long, List<Window>> entry : windowsByDay.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true).entrySet()) {
+            if (unableDateSet.contains(LocalDate.ofEpochDay(entry.getKey()))) continue;
+
+            for (Window window : entry.getValue()) {
+                if (window.trainingId.equals(excludeTrainingId)) continue;
+                for (int[] range : hourRanges) {
+                    if (range[0] < window.endHour && window.startHour < range[1]) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public List<LocalDate> getDates(LocalDate from) {
+        return windowsByDay.tailMap(from.toEpochDay(), true).keySet().stream().map(LocalDate::ofEpochDay).toList();
+    }
+
+    // 예약 시간 목록을 연속된 [시작, 끝) 시간 범위로 묶음. 자정을 넘기는 일정은 두 범위로 나뉨
+    private static List<int[]> toHourRanges(LocalTime startHour, LocalTime endHour) {
+        List<int[]> ranges = new ArrayList<>();
+        for (LocalTime time : TrainingSchedule.getTimeList(startHour, endHour)) {
+            int hour = time.getHour();
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] == hour) {
+                last[1] = hour + 1;
+            } else {
+                ranges.add(new int[]{hour, hour + 1});
+            }
+        }
+        return ranges;
+    }
+
+    private static class Window {
+        private final Long trainingId;
+        private final int startHour;
+        private final int endHour;
+
+        private Window(Long trainingId, int startHour, int endHour) {
+            this.trainingId = trainingId;
+            this.startHour = startHour;
+            this.endHour = endHour;
+        }
+    }
+}
@@ -15,14 +15,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 import org.locationtech.jts.geom.Point;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
+@DynamicUpdate
+// 커서 조회 정렬용. 보조 인덱스에 id가 포함되므로 (정렬 값, id) 순서로 탐색됨
+@Table(indexes = {
+        @Index(columnList = "title"),
+        @Index(columnList = "price"),
+        @Index(columnList = "start_date"),
+        @Index(columnList = "end_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Training extends BaseTimeEntity {
@@ -76,6 +87,12 @@ public class Training extends BaseTimeEntity {
     @NotNull
     private LocalTime endHour;
 
+    @ElementCollection
+    @CollectionTable(name = "training_unable_date", joinColumns = @JoinColumn(name = "training_id"))
+    @Column(name = "unable_date")
+    private List<LocalDate> unableDates;
+
+    // 예약되었거나 닫힌 날짜만 저장, 나머지 날짜/시간은 startDate ~ endDate, startHour ~ endHour 규칙으로 계산
     @OneToMany(mappedBy = "training", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonIgnoreProperties({"training"})
     @OrderBy(value = "date")
@@ -84,6 +101,11 @@ public class Training extends BaseTimeEntity {
     @NotNull
     private boolean deleted;
 
+    @NotNull
+    @ColumnDefault("0")
+    @Comment("예약되지 않은 시간 수")
+    private long remainingSlots;
+
     @Builder
     public Training(TrainingCreateDto dto, Trainer trainer) {
         this.title = dto.getTitle();
@@ -94,6 +116,8 @@ public class Training extends BaseTimeEntity {
         this.endDate = dto.getEndDate();
         this.startHour = dto.getStartHour();
         this.endHour = dto.getEndHour();
+        this.unableDates = filterUnableDates(dto.getStartDate(), dto.getEndDate(), dto.getUnableDates());
+        this.remainingSlots = (long) TrainingSchedule.getDateList(startDate, endDate, unableDates).size() * TrainingSchedule.getTimeList(startHour, endHour).size();
         this.trainer = trainer;
         this.address = trainer.getAddress();
         this.point = trainer.getPoint();
@@ -116,7 +140,6 @@ public class Training extends BaseTimeEntity {
     public void executeDelete() {
         this.deleted = true;
         this.closed = true;
-        this.getAvailableDates().forEach(AvailableDate::deleteDate);
     }
 
     public void addImages(TrainingDocument document) {
@@ -131,9 +154,19 @@ public class Training extends BaseTimeEntity {
         this.availableDates.remove(date);
     }
 
-    public void updateStartAndEndDate(LocalDate startDate, LocalDate endDate) {
+    public void updateSchedule(LocalDate startDate, LocalDate endDate, List<LocalDate> unableDates) {
         this.startDate = startDate;
         this.endDate = endDate;
+        this.unableDates.clear();
+        this.unableDates.addAll(filterUnableDates(startDate, endDate, unableDates));
+    }
+
+    private List<LocalDate> filterUnableDates(LocalDate startDate, LocalDate endDate, List<LocalDate> unableDates) {
+        if (unableDates == null) return new ArrayList<>();
+        return unableDates.stream()
+                .filter(date -> !date.isBefore(startDate) && !date.isAfter(endDate))
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
     public void updateAddress(TrainerCareer trainerCareer) {
@@ -0,0 +1,103 @@
+package com.fithub.fithubbackend.domain.Training.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+// 트레이닝 예약 규칙(날짜 범위, 시간 범위, 예약 불가 날짜)을 날짜/시간으로 펼침. 닫힌 시간만 AvailableTime으로 저장됨
+@Getter
+public class TrainingSchedule {
+
+    private final List<LocalDate> dates;
+    private final List<LocalTime> times;
+    private final Map<LocalDate, Set<LocalTime>> closedTimes;
+    private final boolean closed;
+
+    private TrainingSchedule(List<LocalDate> dates, List<LocalTime> times, Map<LocalDate, Set<LocalTime>> closedTimes, boolean closed) {
+        this.dates = dates;
+        this.times = times;
+        this.closedTimes = closedTimes;
+        this.closed = closed;
+    }
+
+    public static TrainingSchedule of(Training training) {
+        return of(training, Collections.emptyList());
+    }
+
+    public static TrainingSchedule of(Training training, List<AvailableTime> closedTimeList) {
+        Map<LocalDate, Set<LocalTime>> closedTimes = new HashMap<>();
+        for (AvailableTime availableTime : closedTimeList) {
+            closedTimes.computeIfAbsent(availableTime.getAvailableDate().getDate(), d -> new HashSet<>())
+                    .add(availableTime.getTime());
+        }
+
+        return new TrainingSchedule(
+                getDateList(training.getStartDate(), training.getEndDate(), training.getUnableDates()),
+                getTimeList(training.getStartHour(), training.getEndHour()),
+                closedTimes,
+                training.isClosed() || training.isDeleted()
+        );
+    }
+
+    public static List<LocalDate> getDateList(LocalDate startDate, LocalDate endDate, Collection<LocalDate> unableDates) {
+        Set<LocalDate> unableDateSet = unableDates == null ? Collections.emptySet() : new HashSet<>(unableDates);
+        return startDate.datesUntil(endDate.plusDays(1))
+                .filter(date -> !unableDateSet.contains(date))
+                .toList();
+    }
+
+    public static List<LocalTime> getTimeList(LocalTime startHour, LocalTime endHour) {
+        List<LocalTime> timeList = new ArrayList<>();
+        while (!startHour.equals(endHour)) {
+            timeList.add(startHour);
+            startHour = startHour.plusHours(1);
+        }
+        return timeList;
+    }
+
+    public boolean contains(LocalDate date, LocalTime time) {
+        return Collections.binarySearch(dates, date) >= 0 && times.contains(time);
+    }
+
+    // boundary 이후의 예약 시간 수 (남은 시간 수 계산용)
+    public long countSlotsAfter(LocalDateTime boundary) {
+        long count = 0;
+        for (LocalDate date : dates) {
+            count += countTimesAfter(date, boundary);
+        }
+        return count;
+    }
+
+    public int countTimesAfter(LocalDate date, LocalDateTime boundary) {
+        if (date.isAfter(boundary.toLocalDate())) return times.size();
+        if (date.isBefore(boundary.toLocalDate())) return 0;
+        return (int) times.stream().filter(time -> time.isAfter(boundary.toLocalTime())).count();
+    }
+
+    public boolean isOpen(LocalDate date, LocalTime time, LocalDateTime now) {
+        return !closed
+                && contains(date, time)
+                && LocalDateTime.of(date, time).isAfter(now)
+                && !closedTimes.getOrDefault(date, Collections.emptySet()).contains(time);
+    }
+
+    public boolean hasOpenTimeOn(LocalDate date, LocalDateTime now) {
+        for (LocalTime time : times) {
+            if (isOpen(date, time, now)) return true;
+        }
+        return false;
+    }
+
+    public boolean hasOpenTime(LocalDateTime now) {
+        int from = Collections.binarySearch(dates, now.toLocalDate());
+        if (from < 0) from = -from - 1;
+
+        for (int i = from; i < dates.size(); i++) {
+            if (hasOpenTimeOn(dates.get(i), now)) return true;
+        }
+        return false;
+    }
+}
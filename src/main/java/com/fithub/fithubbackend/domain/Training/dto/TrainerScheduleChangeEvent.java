@@ -0,0 +1,11 @@
+package com.fithub.fithubbackend.domain.Training.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트레이닝 생성, 예약 기간 수정, 삭제로 트레이너의 일정이 바뀐 후 발행
+@Getter
+@AllArgsConstructor
+public class TrainerScheduleChangeEvent {
+    private Long trainerId;
+}
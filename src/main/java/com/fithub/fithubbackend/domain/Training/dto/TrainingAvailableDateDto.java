@@ -1,10 +1,11 @@
 package com.fithub.fithubbackend.domain.Training.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingSchedule;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,7 +14,6 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class TrainingAvailableDateDto {
-    private Long id;
 
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate date;
@@ -22,12 +22,15 @@ public class TrainingAvailableDateDto {
 
     private List<TrainingAvailableTimeDto> availableTimes = new ArrayList<>();
 
-    public static TrainingAvailableDateDto toDto(AvailableDate date) {
+    public static TrainingAvailableDateDto toDto(TrainingSchedule schedule, LocalDate date, LocalDateTime now) {
+        List<TrainingAvailableTimeDto> availableTimes = schedule.getTimes().stream()
+                .map(time -> TrainingAvailableTimeDto.toDto(time, schedule.isOpen(date, time, now)))
+                .toList();
+
         return TrainingAvailableDateDto.builder()
-                .id(date.getId())
-                .date(date.getDate())
-                .enabled(date.isEnabled())
-                .availableTimes(date.getAvailableTimes().stream().map(TrainingAvailableTimeDto::toDto).toList())
+                .date(date)
+                .enabled(availableTimes.stream().anyMatch(TrainingAvailableTimeDto::isEnabled))
+                .availableTimes(availableTimes)
                 .build();
     }
 
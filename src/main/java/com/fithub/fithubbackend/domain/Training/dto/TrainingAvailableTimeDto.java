@@ -1,7 +1,6 @@
 package com.fithub.fithubbackend.domain.Training.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.fithub.fithubbackend.domain.Training.domain.AvailableTime;
 import lombok.*;
 
 import java.time.LocalTime;
@@ -12,18 +11,15 @@ import java.time.LocalTime;
 @Builder
 public class TrainingAvailableTimeDto {
 
-    private Long id;
-
     @JsonFormat(pattern = "HH:mm:ss")
     private LocalTime time;
 
     private boolean enabled;
 
-    public static TrainingAvailableTimeDto toDto(AvailableTime time) {
+    public static TrainingAvailableTimeDto toDto(LocalTime time, boolean enabled) {
         return TrainingAvailableTimeDto.builder()
-                .id(time.getId())
-                .time(time.getTime())
-                .enabled(time.isEnabled())
+                .time(time)
+                .enabled(enabled)
                 .build();
     }
 }
@@ -0,0 +1,95 @@
+package com.fithub.fithubbackend.domain.Training.dto;
+
+import com.fithub.fithubbackend.global.exception.CustomException;
+import com.fithub.fithubbackend.global.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Set;
+
+// 커서 방식 조회에서 마지막으로 조회한 트레이닝의 (정렬 값, id). 정렬 값이 같으면 id를 같은 방향으로 정렬
+@Getter
+public class TrainingCursor {
+
+    private static final Set<String> SORT_PROPERTIES = Set.of("id", "title", "startDate", "endDate", "price");
+
+    private final String property;
+    private final boolean ascending;
+    private final Long id;
+    private final String value;
+
+    private TrainingCursor(String property, boolean ascending, Long id, String value) {
+        this.property = property;
+        this.ascending = ascending;
+        this.id = id;
+        this.value = value;
+    }
+
+    public static TrainingCursor of(String cursor, Sort sort) {
+        Sort.Order order = resolveOrder(sort);
+        if (cursor == null || cursor.isBlank()) {
+            return new TrainingCursor(order.getProperty(), order.isAscending(), null, null);
+        }
+
+        TrainingCursor decoded = decode(cursor);
+        if (!decoded.property.equals(order.getProperty()) || decoded.ascending != order.isAscending()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "정렬 조건이 바뀌어 커서를 사용할 수 없습니다. 처음부터 다시 조회해주세요.");
+        }
+        return decoded;
+    }
+
+    // 지원하지 않는 정렬 조건만 있으면 기본 정렬(id desc)
+    public static Sort.Order resolveOrder(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (SORT_PROPERTIES.contains(order.getProperty())) {
+                return order;
+            }
+        }
+        return Sort.Order.desc("id");
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public TrainingCursor next(TrainingOutlineDto last) {
+        String nextValue = switch (property) {
+            case "title" -> last.getTitle();
+            case "startDate" -> last.getStartDate().toString();
+            case "endDate" -> last.getEndDate().toString();
+            case "price" -> String.valueOf(last.getPrice());
+            default -> String.valueOf(last.getId());
+        };
+        return new TrainingCursor(property, ascending, last.getId(), nextValue);
+    }
+
+    // 정렬 기준 컬럼 타입에 맞춰 변환한 정렬 값
+    public Comparable<?> getSortValue() {
+        return switch (property) {
+            case "title" -> value;
+            case "startDate", "endDate" -> LocalDate.parse(value);
+            case "price" -> Integer.parseInt(value);
+            default -> id;
+        };
+    }
+
+    public String encode() {
+        String raw = property + ":" + (ascending ? "asc" : "desc") + ":" + id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TrainingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            TrainingCursor decoded = new TrainingCursor(parts[0], "asc".equals(parts[1]), Long.parseLong(parts[2]), parts[3]);
+            decoded.getSortValue();
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
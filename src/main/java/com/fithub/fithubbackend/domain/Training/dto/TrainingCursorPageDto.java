@@ -0,0 +1,23 @@
+package com.fithub.fithubbackend.domain.Training.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Schema(description = "커서 방식 트레이닝 목록")
+public class TrainingCursorPageDto {
+    private List<TrainingOutlineDto> content;
+
+    @Schema(description = "다음 목록 조회 시 cursor로 보낼 값. 마지막 목록이면 null")
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    @Schema(description = "전체 개수. withCount = true일 때만 값이 들어가며 최대 1분 전 값일 수 있음")
+    private Long totalCount;
+}
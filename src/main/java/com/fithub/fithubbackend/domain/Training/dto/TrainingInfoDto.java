@@ -48,7 +48,6 @@ public class TrainingInfoDto {
                 .price(training.getPrice())
                 .startDate(training.getStartDate())
                 .endDate(training.getEndDate())
-                .availableDates(training.getAvailableDates().stream().map(TrainingAvailableDateDto::toDto).toList())
                 .categories(training.getCategories().stream().map(TrainingCategory::getCategory).collect(Collectors.toList()))
                 .build();
     }
@@ -56,4 +55,8 @@ public class TrainingInfoDto {
     public void updateImages(List<TrainingDocumentDto> images) {
         this.images = images;
     }
+
+    public void updateAvailableDates(List<TrainingAvailableDateDto> availableDates) {
+        this.availableDates = availableDates;
+    }
 }
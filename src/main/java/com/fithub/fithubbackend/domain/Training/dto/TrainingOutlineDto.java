@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fithub.fithubbackend.domain.Training.domain.Training;
 import com.fithub.fithubbackend.domain.Training.domain.TrainingCategory;
 import com.fithub.fithubbackend.global.common.Category;
+import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -30,8 +31,27 @@ public class TrainingOutlineDto {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate endDate;
     private boolean closed;
+
+    @Schema(description = "남은 예약 가능 시간 수")
+    private long remainingSlots;
+
     private List<Category> categories;
 
+    @QueryProjection
+    public TrainingOutlineDto(Long id, Long trainerId, String trainerName, String trainerProfileImg, String trainerAddress,
+                              String title, int price, String address, LocalDate startDate, LocalDate endDate,
+                              boolean closed, long remainingSlots) {
+        this.id = id;
+        this.trainerInfoDto = new TrainerInfoDto(trainerId, trainerName, trainerProfileImg, trainerAddress);
+        this.title = title;
+        this.price = price;
+        this.address = address;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.closed = closed;
+        this.remainingSlots = remainingSlots;
+    }
+
     public static TrainingOutlineDto toDto(Training training) {
         return TrainingOutlineDto.builder()
                 .id(training.getId())
@@ -42,10 +62,15 @@ public class TrainingOutlineDto {
                 .startDate(training.getStartDate())
                 .endDate(training.getEndDate())
                 .closed(training.isClosed())
+                .remainingSlots(training.getRemainingSlots())
                 .categories(training.getCategories().stream().map(TrainingCategory::getCategory).collect(Collectors.toList()))
                 .build();
     }
 
+    public void updateCategories(List<Category> categories) {
+        this.categories = categories;
+    }
+
     public void updateDist(Double dist) {
         this.dist = dist;
     }
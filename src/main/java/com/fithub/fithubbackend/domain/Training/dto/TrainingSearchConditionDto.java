@@ -12,7 +12,7 @@ import java.time.LocalDate;
 @Schema(description = "트레이닝 검색 조건")
 public class TrainingSearchConditionDto {
 
-    @Schema(description = "검색 키워드, 해당 검색 키워드가 포함되는 제목으로 검색")
+    @Schema(description = "검색 키워드, 해당 검색 키워드가 제목, 내용, 주소, 카테고리에 포함되는 트레이닝 검색. 띄어쓰기로 구분된 단어는 모두 포함되어야 함")
     private String keyword;
 
     @Schema(description = "최저가")
@@ -0,0 +1,11 @@
+package com.fithub.fithubbackend.domain.Training.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예약, 예약 취소로 트레이닝의 예약 가능 시간이 바뀐 후 발행
+@Getter
+@AllArgsConstructor
+public class TrainingSlotChangeEvent {
+    private Long trainingId;
+}
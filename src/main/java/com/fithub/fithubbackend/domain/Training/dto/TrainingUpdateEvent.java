@@ -0,0 +1,11 @@
+package com.fithub.fithubbackend.domain.Training.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트레이닝 내용, 일정, 마감/오픈, 삭제 등 변경 후 발행
+@Getter
+@AllArgsConstructor
+public class TrainingUpdateEvent {
+    private Long trainingId;
+}
@@ -1,23 +1,30 @@
 package com.fithub.fithubbackend.domain.Training.dto.reservation;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 @Getter
 @Setter
-@Schema(description = "트레이닝 결제 금액 검증 전 예약 시간대 확인 및 저장을 위한 dto")
+// 예약 날짜, 시간 행을 예약할 때 만들도록 바뀌면서 reservationDateId, reservationTimeId 대신 날짜와 시간을 받음
+@Schema(description = "트레이닝 결제 금액 검증 전 예약 시간대 확인 및 저장을 위한 dto. 이전의 reservationDateId, reservationTimeId는 더 이상 받지 않음")
 public class ReserveReqDto {
     @NotNull
     @Schema(description = "예약할 트레이닝의 id")
     private Long trainingId;
 
-    @NotNull
-    @Schema(description = "예약한 날짜 id")
-    private Long reservationDateId;
+    @NotNull(message = "예약할 날짜(reservationDate)를 보내주세요. reservationDateId는 더 이상 사용하지 않습니다.")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "예약할 날짜", example = "2024-01-01")
+    private LocalDate reservationDate;
 
-    @NotNull
-    @Schema(description = "예약한 시간 id")
-    private Long reservationTimeId;
+    @NotNull(message = "예약할 시간(reservationTime)을 보내주세요. reservationTimeId는 더 이상 사용하지 않습니다.")
+    @JsonFormat(pattern = "HH:mm:ss")
+    @Schema(description = "예약할 시간", example = "10:00:00")
+    private LocalTime reservationTime;
 }
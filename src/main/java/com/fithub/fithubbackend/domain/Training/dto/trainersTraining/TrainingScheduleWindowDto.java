@@ -0,0 +1,19 @@
+package com.fithub.fithubbackend.domain.Training.dto.trainersTraining;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 트레이너 일정 색인을 만들기 위한 트레이닝 예약 규칙. 예약 불가 날짜마다 한 행, 없으면 unableDate는 null
+@Getter
+@AllArgsConstructor
+public class TrainingScheduleWindowDto {
+    private Long trainingId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime startHour;
+    private LocalTime endHour;
+    private LocalDate unableDate;
+}
@@ -1,13 +1,100 @@
 package com.fithub.fithubbackend.domain.Training.repository;
 
 import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
+import com.fithub.fithubbackend.domain.Training.dto.reservation.TrainingDateReservationNumDto;
+import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AvailableDateRepository extends JpaRepository<AvailableDate, Long> {
     Optional<AvailableDate> findByTrainingIdAndDate(Long trainingId, LocalDate date);
 
-    boolean existsByEnabledTrueAndTrainingId(Long trainingId);
+    @Query("SELECT new com.fithub.fithubbackend.domain.Training.dto.reservation.TrainingDateReservationNumDto(d.id, d.date, d.reservationCount) " +
+            "FROM AvailableDate d WHERE d.training.id = :trainingId")
+    List<TrainingDateReservationNumDto> findReservationNumsByTrainingId(@Param("trainingId") Long trainingId);
+
+    // 같은 날짜의 예약은 날짜 행 잠금으로 줄 세운 뒤 시간 행, 트레이닝 순서로 변경
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM AvailableDate d WHERE d.training.id = :trainingId AND d.date = :date")
+    Optional<AvailableDate> findByTrainingIdAndDateForUpdate(@Param("trainingId") Long trainingId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM AvailableDate d WHERE d.id IN :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO available_date (training_id, date, enabled, deleted, reservation_count, remaining_slots) " +
+            "VALUES (:trainingId, :date, true, false, 0, :remainingSlots)", nativeQuery = true)
+    int saveIfAbsent(@Param("trainingId") Long trainingId, @Param("date") LocalDate date, @Param("remainingSlots") long remainingSlots);
+
+    // 진행 전 예약 수는 엔티티를 읽지 않고 UPDATE 문으로만 변경
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.reservationCount = d.reservationCount - 1, d.remainingSlots = d.remainingSlots + 1 WHERE d.id = :id")
+    int releaseSlot(@Param("id") Long id);
+
+    // 이미 지난 시간의 예약은 남은 시간 수에 다시 더하지 않음
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.reservationCount = d.reservationCount - 1 WHERE d.id = :id")
+    int releaseReservation(@Param("id") Long id);
+
+    // boundary가 속한 날짜는 그 이후 시간 수(boundaryDayTimeCount), 이후 날짜는 하루 시간 수(timeCount)에서 예약되었거나 닫힌 시간 수를 뺌
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE available_date d SET d.remaining_slots = " +
+            "(CASE WHEN d.date > :boundaryDate THEN :timeCount WHEN d.date = :boundaryDate THEN :boundaryDayTimeCount ELSE 0 END) - " +
+            "(SELECT COUNT(*) FROM available_time t WHERE t.available_date_id = d.id AND t.enabled = false AND t.deleted = false AND TIMESTAMP(d.date, t.time) > :boundary) " +
+            "WHERE d.training_id = :trainingId AND d.deleted = false", nativeQuery = true)
+    int refreshRemainingSlotsByTrainingId(@Param("trainingId") Long trainingId, @Param("timeCount") long timeCount,
+                                          @Param("boundaryDate") LocalDate boundaryDate, @Param("boundaryDayTimeCount") long boundaryDayTimeCount,
+                                          @Param("boundary") LocalDateTime boundary);
+
+    // 예약되지 않은 채 지난 시간만큼 해당 날짜의 남은 시간 수를 줄임
+    @Modifying
+    @Query(value = "UPDATE available_date d JOIN training tr ON tr.id = d.training_id SET d.remaining_slots = d.remaining_slots - 1 " +
+            "WHERE d.date = :date AND d.deleted = false AND tr.deleted = false AND :date BETWEEN tr.start_date AND tr.end_date AND tr.start_hour <> tr.end_hour " +
+            "AND (CASE WHEN tr.start_hour < tr.end_hour THEN :time >= tr.start_hour AND :time < tr.end_hour ELSE :time >= tr.start_hour OR :time < tr.end_hour END) " +
+            "AND NOT EXISTS (SELECT 1 FROM training_unable_date u WHERE u.training_id = tr.id AND u.unable_date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM available_time t WHERE t.available_date_id = d.id AND t.time = :time AND t.enabled = false AND t.deleted = false)", nativeQuery = true)
+    int expireSlots(@Param("date") LocalDate date, @Param("time") LocalTime time);
+
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.enabled = false WHERE d.enabled = true AND d.deleted = false AND d.remainingSlots <= 0")
+    int closeSoldOutDates();
+
+    // 결제되지 않은 예약은 결제 대기 만료 때 따로 빠지므로 제외
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.reservationCount = d.reservationCount - " +
+            "(SELECT COUNT(r) FROM ReserveInfo r WHERE r.availableDate.id = d.id AND r.status = :status AND r.impUid IS NOT NULL AND r.reserveDateTime > :from AND r.reserveDateTime <= :to) " +
+            "WHERE d.id IN (SELECT r.availableDate.id FROM ReserveInfo r WHERE r.status = :status AND r.impUid IS NOT NULL AND r.reserveDateTime > :from AND r.reserveDateTime <= :to)")
+    int subtractReservationCountByReserveDateTimeBetween(@Param("status") ReserveStatus status, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.enabled = false WHERE d.enabled = true AND d.deleted = false " +
+            "AND (d.date < :date OR (d.date = :date AND d.training.id IN (SELECT t.id FROM Training t WHERE t.endHour <= :time)))")
+    int closePastDates(@Param("date") LocalDate date, @Param("time") LocalTime time);
+
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.enabled = false WHERE d.training.id = :trainingId AND d.enabled = true AND d.deleted = false")
+    int closeAllByTrainingId(@Param("trainingId") Long trainingId);
+
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.enabled = true WHERE d.training.id = :trainingId AND d.date > :date AND d.enabled = false AND d.deleted = false")
+    int openAllByTrainingIdAndDateAfter(@Param("trainingId") Long trainingId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE AvailableDate d SET d.enabled = false, d.deleted = true WHERE d.training.id = :trainingId")
+    int deleteSoftByTrainingId(@Param("trainingId") Long trainingId);
+
+    @Modifying
+    @Query("DELETE FROM AvailableDate d WHERE d.training.id = :trainingId")
+    int deleteAllByTrainingId(@Param("trainingId") Long trainingId);
 }
@@ -1,25 +1,57 @@
 package com.fithub.fithubbackend.domain.Training.repository;
 
-import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
 import com.fithub.fithubbackend.domain.Training.domain.AvailableTime;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
-import org.jetbrains.annotations.NotNull;
+import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface AvailableTimeRepository extends JpaRepository<AvailableTime, Long> {
 
-    @NotNull
-    @Override
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
-    Optional<AvailableTime> findById(@NotNull Long id);
+    Optional<AvailableTime> findByAvailableDateIdAndTime(Long availableDateId, LocalTime time);
 
-    boolean existsByEnabledTrueAndAvailableDate(AvailableDate date);
-    Optional<AvailableTime> findByEnabledTrueAndAvailableDateIdAndTime(Long availableDateId, LocalTime time);
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO available_time (available_date_id, time, enabled, deleted) VALUES (:availableDateId, :time, true, false)", nativeQuery = true)
+    int saveIfAbsent(@Param("availableDateId") Long availableDateId, @Param("time") LocalTime time);
+
+    // 변경된 행이 있는 요청만 예약 성공, 행 잠금을 미리 잡지 않음. 날짜, 트레이닝의 예약 수/남은 시간 수도 같은 문장에서 변경
+    @Modifying
+    @Query(value = "UPDATE available_time t JOIN available_date d ON d.id = t.available_date_id JOIN training tr ON tr.id = d.training_id " +
+            "SET t.enabled = false, d.reservation_count = d.reservation_count + 1, d.remaining_slots = d.remaining_slots - 1, tr.remaining_slots = tr.remaining_slots - 1 " +
+            "WHERE t.available_date_id = :availableDateId AND t.time = :time AND t.enabled = true AND t.deleted = false", nativeQuery = true)
+    int closeIfEnabled(@Param("availableDateId") Long availableDateId, @Param("time") LocalTime time);
+
+    @Modifying
+    @Query("DELETE FROM AvailableTime t WHERE t.availableDate.id IN :availableDateIds")
+    void deleteAllByAvailableDateIdIn(@Param("availableDateIds") List<Long> availableDateIds);
+
+    @Query("SELECT t FROM AvailableTime t JOIN FETCH t.availableDate d WHERE d.training.id = :trainingId AND t.enabled = false")
+    List<AvailableTime> findClosedTimesByTrainingId(@Param("trainingId") Long trainingId);
+
+    // 남은 시간 수는 expireSlots에서 먼저 줄이므로 여기서는 시간만 닫음
+    @Modifying
+    @Query(value = "UPDATE available_time t JOIN available_date d ON d.id = t.available_date_id " +
+            "SET t.enabled = false WHERE d.date = :date AND t.time = :time AND t.enabled = true AND t.deleted = false", nativeQuery = true)
+    int closeTimes(@Param("date") LocalDate date, @Param("time") LocalTime time);
+
+    @Modifying
+    @Query("UPDATE AvailableTime t SET t.enabled = true WHERE t.enabled = false AND t.deleted = false " +
+            "AND t.availableDate.id IN (SELECT d.id FROM AvailableDate d WHERE d.training.id = :trainingId AND d.date > :date) " +
+            "AND t.id NOT IN (SELECT r.availableTime.id FROM ReserveInfo r WHERE r.training.id = :trainingId AND r.status = :status AND r.availableTime IS NOT NULL)")
+    int openAllByTrainingIdAndDateAfter(@Param("trainingId") Long trainingId, @Param("date") LocalDate date, @Param("status") ReserveStatus reservedStatus);
+
+    @Modifying
+    @Query("UPDATE AvailableTime t SET t.enabled = false, t.deleted = true " +
+            "WHERE t.availableDate.id IN (SELECT d.id FROM AvailableDate d WHERE d.training.id = :trainingId)")
+    int deleteSoftByTrainingId(@Param("trainingId") Long trainingId);
+
+    @Modifying
+    @Query("DELETE FROM AvailableTime t WHERE t.availableDate.id IN (SELECT d.id FROM AvailableDate d WHERE d.training.id = :trainingId)")
+    int deleteAllByTrainingId(@Param("trainingId") Long trainingId);
 }
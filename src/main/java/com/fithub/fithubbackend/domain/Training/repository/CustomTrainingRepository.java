@@ -1,12 +1,15 @@
 package com.fithub.fithubbackend.domain.Training.repository;
 
-import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.QTrainingOutlineDto;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingCursor;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingOutlineDto;
 import com.fithub.fithubbackend.domain.Training.dto.TrainingSearchConditionDto;
 import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
 import com.fithub.fithubbackend.global.common.Category;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -16,23 +19,36 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.fithub.fithubbackend.domain.Training.domain.QReserveInfo.reserveInfo;
 import static com.fithub.fithubbackend.domain.Training.domain.QTraining.training;
+import static com.fithub.fithubbackend.domain.Training.domain.QTrainingCategory.trainingCategory;
+import static com.fithub.fithubbackend.domain.trainer.domain.QTrainer.trainer;
 
 @Repository
 public class CustomTrainingRepository {
     private JPAQueryFactory jpaQueryFactory;
+    private TrainingKeywordIndex trainingKeywordIndex;
 
-    public CustomTrainingRepository(JPAQueryFactory jpaQueryFactory) {
+    public CustomTrainingRepository(JPAQueryFactory jpaQueryFactory, TrainingKeywordIndex trainingKeywordIndex) {
         this.jpaQueryFactory = jpaQueryFactory;
+        this.trainingKeywordIndex = trainingKeywordIndex;
     }
 
-    public Page<Training> searchByConditions(TrainingSearchConditionDto conditions, Pageable pageable) {
-        List<Training> content = jpaQueryFactory.selectFrom(training)
+    public Page<TrainingOutlineDto> searchByConditions(TrainingSearchConditionDto conditions, Pageable pageable) {
+        if (StringUtils.hasText(conditions.getKeyword())) {
+            return searchByKeywordIndex(conditions, pageable);
+        }
+
+        List<TrainingOutlineDto> content = selectOutline()
                 .where(training.closed.isFalse(),
-                        keywordContains(conditions.getKeyword()),
+                        training.deleted.isFalse(),
                         startDateGoe(conditions.getStartDate()),
                         endDateLoe(conditions.getEndDate()),
                         priceBetween(conditions.getLowestPrice(), conditions.getHighestPrice()),
@@ -46,19 +62,142 @@ public class CustomTrainingRepository {
         Long count = jpaQueryFactory.select(training.count())
                 .from(training)
                 .where(training.closed.isFalse(),
-                        keywordContains(conditions.getKeyword()),
+                        training.deleted.isFalse(),
+                        startDateGoe(conditions.getStartDate()),
+                        endDateLoe(conditions.getEndDate()),
+                        priceBetween(conditions.getLowestPrice(), conditions.getHighestPrice()),
+                        categoryEqual(conditions.getCategory())
+                )
+                .fetchOne();
+
+        return new PageImpl<>(fillCategories(content), pageable, count);
+    }
+
+    // 마지막으로 조회한 (정렬 값, id) 다음부터 limit개 조회. OFFSET, COUNT 없이 인덱스 탐색만 함
+    public List<TrainingOutlineDto> searchByCursor(TrainingSearchConditionDto conditions, TrainingCursor cursor, int limit) {
+        if (StringUtils.hasText(conditions.getKeyword())) {
+            return findByKeywordIndexIds(trainingKeywordIndex.searchAfter(conditions, cursor, limit));
+        }
+
+        List<TrainingOutlineDto> content = selectOutline()
+                .where(training.closed.isFalse(),
+                        training.deleted.isFalse(),
+                        startDateGoe(conditions.getStartDate()),
+                        endDateLoe(conditions.getEndDate()),
+                        priceBetween(conditions.getLowestPrice(), conditions.getHighestPrice()),
+                        categoryEqual(conditions.getCategory()),
+                        seekAfter(cursor)
+                )
+                .orderBy(cursorSort(cursor))
+                .limit(limit)
+                .fetch();
+        return fillCategories(content);
+    }
+
+    // 주어진 id 순서대로 요약 정보 조회. 마감, 삭제 여부와 관계없이 조회
+    public List<TrainingOutlineDto> findOutlinesByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TrainingOutlineDto> outlineMap = selectOutline()
+                .where(training.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(TrainingOutlineDto::getId, dto -> dto));
+
+        List<TrainingOutlineDto> content = ids.stream().map(outlineMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+        return fillCategories(content);
+    }
+
+    public long countByConditions(TrainingSearchConditionDto conditions) {
+        if (StringUtils.hasText(conditions.getKeyword())) {
+            return trainingKeywordIndex.count(conditions);
+        }
+
+        Long count = jpaQueryFactory.select(training.count())
+                .from(training)
+                .where(training.closed.isFalse(),
+                        training.deleted.isFalse(),
                         startDateGoe(conditions.getStartDate()),
                         endDateLoe(conditions.getEndDate()),
                         priceBetween(conditions.getLowestPrice(), conditions.getHighestPrice()),
                         categoryEqual(conditions.getCategory())
                 )
                 .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    // 검색어가 있으면 색인에서 조건에 맞는 id 한 페이지만 찾고 DB는 id로만 조회
+    private Page<TrainingOutlineDto> searchByKeywordIndex(TrainingSearchConditionDto conditions, Pageable pageable) {
+        Page<Long> idPage = trainingKeywordIndex.search(conditions, pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, idPage.getTotalElements());
+        }
+
+        return new PageImpl<>(findByKeywordIndexIds(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
+
+    // 색인 순서를 유지하면서 조회
+    private List<TrainingOutlineDto> findByKeywordIndexIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, TrainingOutlineDto> outlineMap = selectOutline()
+                .where(training.id.in(ids), training.closed.isFalse(), training.deleted.isFalse())
+                .fetch().stream()
+                .collect(Collectors.toMap(TrainingOutlineDto::getId, dto -> dto));
+
+        List<TrainingOutlineDto> content = new ArrayList<>();
+        for (Long id : ids) {
+            TrainingOutlineDto found = outlineMap.get(id);
+            if (found != null) {
+                content.add(found);
+            } else {
+                // 색인 반영 전에 마감, 삭제된 트레이닝
+                trainingKeywordIndex.remove(id);
+            }
+        }
+        return fillCategories(content);
+    }
 
-        return new PageImpl<>(content, pageable, count);
+    // 트레이너 요약은 조인해서 한 번에 조회
+    private JPAQuery<TrainingOutlineDto> selectOutline() {
+        return jpaQueryFactory.select(
+                        new QTrainingOutlineDto(
+                                training.id,
+                                trainer.id,
+                                trainer.name,
+                                trainer.profileUrl,
+                                trainer.address,
+                                training.title,
+                                training.price,
+                                training.address,
+                                training.startDate,
+                                training.endDate,
+                                training.closed,
+                                training.remainingSlots
+                        )
+                ).from(training)
+                .join(training.trainer, trainer);
     }
 
-    private BooleanExpression keywordContains(String keyword) {
-        return StringUtils.hasText(keyword) ? training.title.containsIgnoreCase(keyword) : null;
+    // 한 페이지의 카테고리를 IN 조회 한 번으로 채움
+    private List<TrainingOutlineDto> fillCategories(List<TrainingOutlineDto> content) {
+        if (content.isEmpty()) {
+            return content;
+        }
+
+        List<Long> ids = content.stream().map(TrainingOutlineDto::getId).toList();
+        Map<Long, List<Category>> categoryMap = jpaQueryFactory.select(trainingCategory.training.id, trainingCategory.category)
+                .from(trainingCategory)
+                .where(trainingCategory.training.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(trainingCategory.training.id),
+                        Collectors.mapping(tuple -> tuple.get(trainingCategory.category), Collectors.toList())));
+
+        content.forEach(dto -> dto.updateCategories(categoryMap.getOrDefault(dto.getId(), new ArrayList<>())));
+        return content;
     }
 
     private BooleanExpression startDateGoe(LocalDate startDate) {
@@ -81,24 +220,79 @@ public class CustomTrainingRepository {
         return status != null ? reserveInfo.status.eq(status) : reserveInfo.status.in(ReserveStatus.START, ReserveStatus.BEFORE);
     }
 
-    private OrderSpecifier<?> trainingSort(Pageable pageable) {
-        if (pageable.getSort().isEmpty()) return null;
+    // (정렬 값, id) > (커서 정렬 값, 커서 id)
+    private BooleanExpression seekAfter(TrainingCursor cursor) {
+        if (cursor.isFirst()) return null;
+
+        boolean asc = cursor.isAscending();
+        BooleanExpression idAfter = asc ? training.id.gt(cursor.getId()) : training.id.lt(cursor.getId());
+        switch (cursor.getProperty()) {
+            case "title": {
+                String title = (String) cursor.getSortValue();
+                return (asc ? training.title.gt(title) : training.title.lt(title)).or(training.title.eq(title).and(idAfter));
+            }
+            case "startDate": {
+                LocalDate startDate = (LocalDate) cursor.getSortValue();
+                return (asc ? training.startDate.gt(startDate) : training.startDate.lt(startDate)).or(training.startDate.eq(startDate).and(idAfter));
+            }
+            case "endDate": {
+                LocalDate endDate = (LocalDate) cursor.getSortValue();
+                return (asc ? training.endDate.gt(endDate) : training.endDate.lt(endDate)).or(training.endDate.eq(endDate).and(idAfter));
+            }
+            case "price": {
+                Integer price = (Integer) cursor.getSortValue();
+                return (asc ? training.price.gt(price) : training.price.lt(price)).or(training.price.eq(price).and(idAfter));
+            }
+            default:
+                return idAfter;
+        }
+    }
+
+    private OrderSpecifier<?>[] cursorSort(TrainingCursor cursor) {
+        Order direction = cursor.isAscending() ? Order.ASC : Order.DESC;
+        OrderSpecifier<?> idOrder = new OrderSpecifier<>(direction, training.id);
+        switch (cursor.getProperty()) {
+            case "title":
+                return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, training.title), idOrder};
+            case "startDate":
+                return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, training.startDate), idOrder};
+            case "endDate":
+                return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, training.endDate), idOrder};
+            case "price":
+                return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, training.price), idOrder};
+            default:
+                return new OrderSpecifier<?>[]{idOrder};
+        }
+    }
 
+    // 지정한 정렬을 모두 적용하고, 값이 같은 행의 순서가 페이지마다 바뀌지 않도록 id로 마지막 정렬
+    private OrderSpecifier<?>[] trainingSort(Pageable pageable) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        Order lastDirection = Order.DESC;
         for (Sort.Order order : pageable.getSort()) {
             Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
             switch (order.getProperty()) {
                 case "id":
-                    return new OrderSpecifier<>(direction, training.id);
+                    orders.add(new OrderSpecifier<>(direction, training.id));
+                    return orders.toArray(OrderSpecifier<?>[]::new);
                 case "title":
-                    return new OrderSpecifier<>(direction, training.title);
+                    orders.add(new OrderSpecifier<>(direction, training.title));
+                    break;
                 case "startDate":
-                    return new OrderSpecifier<>(direction, training.startDate);
+                    orders.add(new OrderSpecifier<>(direction, training.startDate));
+                    break;
                 case "endDate":
-                    return new OrderSpecifier<>(direction, training.endDate);
+                    orders.add(new OrderSpecifier<>(direction, training.endDate));
+                    break;
                 case "price":
-                    return new OrderSpecifier<>(direction, training.price);
+                    orders.add(new OrderSpecifier<>(direction, training.price));
+                    break;
+                default:
+                    continue;
             }
+            lastDirection = direction;
         }
-        return null;
+        orders.add(new OrderSpecifier<>(lastDirection, training.id));
+        return orders.toArray(OrderSpecifier<?>[]::new);
     }
 }
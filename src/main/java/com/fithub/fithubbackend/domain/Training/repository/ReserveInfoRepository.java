@@ -8,9 +8,11 @@ import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,10 +25,23 @@ public interface ReserveInfoRepository extends JpaRepository<ReserveInfo, Long>
     boolean existsByTrainerAndStatusNotIn(Trainer trainer, List<@NotNull ReserveStatus> status);
     boolean existsByTrainingId(Long trainingId);
 
-    List<ReserveInfo> findByReserveDateTimeAndStatus(LocalDateTime now, ReserveStatus status);
+    // 결제되지 않은 예약은 BEFORE로 두어야 결제 대기 만료 때 삭제됨
+    @Modifying
+    @Query("UPDATE ReserveInfo r SET r.status = :newStatus, r.modifiedDate = CURRENT_TIMESTAMP " +
+            "WHERE r.status = :status AND r.impUid IS NOT NULL AND r.reserveDateTime > :from AND r.reserveDateTime <= :to")
+    int updateStatusByReserveDateTimeBetween(@Param("status") ReserveStatus status, @Param("newStatus") ReserveStatus newStatus,
+                                             @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    Long countByAvailableDateIdAndStatus(Long availableDateId, ReserveStatus status);
+    @Query("SELECT DISTINCT r.availableDate.date FROM ReserveInfo r WHERE r.availableDate.id IN :availableDateIds AND r.status = :status")
+    List<LocalDate> findDatesByAvailableDateIdInAndStatus(@Param("availableDateIds") List<Long> availableDateIds, @Param("status") ReserveStatus status);
 
-    @Query("SELECT r.status FROM ReserveInfo r WHERE r.availableDate.id = :availableDateId")
-    List<ReserveStatus> findStatusByAvailableDateId(@Param("availableDateId") Long availableDateId);
+    @Query("SELECT DISTINCT r.availableDate.id FROM ReserveInfo r WHERE r.availableDate.id IN :availableDateIds")
+    List<Long> findAvailableDateIdsByAvailableDateIdIn(@Param("availableDateIds") List<Long> availableDateIds);
+
+    // 결제된 예약을 트레이닝별로 epoch 기준 감쇠 가중치로 합산 (training_id, score)
+    @Query(value = "SELECT r.training_id, SUM(POW(2, TIMESTAMPDIFF(SECOND, :epoch, r.created_date) / :halfLifeSeconds)) " +
+            "FROM reserve_info r JOIN training t ON t.id = r.training_id " +
+            "WHERE r.imp_uid IS NOT NULL AND r.status <> 'CANCEL' AND t.deleted = false " +
+            "GROUP BY r.training_id", nativeQuery = true)
+    List<Object[]> sumDecayedPaidReservationsByTraining(@Param("epoch") LocalDateTime epoch, @Param("halfLifeSeconds") long halfLifeSeconds);
 }
@@ -0,0 +1,305 @@
+package com.fithub.fithubbackend.domain.Training.repository;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingCategory;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingCursor;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingSearchConditionDto;
+import com.fithub.fithubbackend.global.common.Category;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 모집 중인 트레이닝의 제목, 내용, 카테고리, 주소를 1~2글자 단위로 나눈 역색인
+@Component
+public class TrainingKeywordIndex {
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    // 커서 조회에서 정렬 없이 커서 위치부터 읽도록 정렬 기준별로 (정렬 값, id) 순서를 유지
+    private final Map<String, NavigableSet<SortKey>> sortedKeys = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> sortProperties = List.of("id", "title", "startDate", "endDate", "price");
+    // 후보 수가 limit의 이 배수 이하이면 후보만 정렬
+    private final int sortThresholdRatio = 8;
+
+    public void rebuild(List<Training> trainings) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            sortedKeys.clear();
+            trainings.forEach(this::add);
+            postings.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Training training) {
+        lock.writeLock().lock();
+        try {
+            delete(Math.toIntExact(training.getId()));
+            add(training);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long trainingId) {
+        lock.writeLock().lock();
+        try {
+            delete(Math.toIntExact(trainingId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<Long> search(TrainingSearchConditionDto conditions, Pageable pageable) {
+        List<Document> result = match(conditions);
+        Sort.Order order = TrainingCursor.resolveOrder(pageable.getSort());
+        result.sort(comparator(order.getProperty(), order.isAscending()));
+
+        int from = (int) Math.min(pageable.getOffset(), result.size());
+        int to = Math.min(from + pageable.getPageSize(), result.size());
+        List<Long> content = result.subList(from, to).stream().map(document -> (long) document.id).toList();
+        return new PageImpl<>(content, pageable, result.size());
+    }
+
+    // 커서 다음의 id를 limit개까지 조회
+    // 후보가 적으면 후보만 정렬하고, 많으면 정렬된 순서에서 커서 위치로 이동해 조건에 맞는 limit개를 찾을 때까지만 읽음
+    public List<Long> searchAfter(TrainingSearchConditionDto conditions, TrainingCursor cursor, int limit) {
+        List<String> tokens = tokenize(conditions.getKeyword());
+        List<Long> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = candidates(tokens);
+            if (candidates == null || candidates.isEmpty()) {
+                return result;
+            }
+
+            if (candidates.getCardinality() <= (long) limit * sortThresholdRatio) {
+                Comparator<Document> comparator = comparator(cursor.getProperty(), cursor.isAscending());
+                List<Document> matched = new ArrayList<>();
+                candidates.forEach((int id) -> {
+                    Document document = documents.get(id);
+                    if ((cursor.isFirst() || isAfter(document, cursor)) && document.matches(tokens, conditions)) {
+                        matched.add(document);
+                    }
+                });
+                matched.sort(comparator);
+                matched.stream().limit(limit).forEach(document -> result.add((long) document.id));
+                return result;
+            }
+
+            for (SortKey key : seek(cursor)) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (candidates.contains(key.id) && documents.get(key.id).matches(tokens, conditions)) {
+                    result.add((long) key.id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private Iterable<SortKey> seek(TrainingCursor cursor) {
+        NavigableSet<SortKey> keys = sortedKeys.getOrDefault(cursor.getProperty(), Collections.emptyNavigableSet());
+        if (cursor.isFirst()) {
+            return cursor.isAscending() ? keys : keys.descendingSet();
+        }
+
+        SortKey from = new SortKey(cursor.getSortValue(), Math.toIntExact(cursor.getId()));
+        return cursor.isAscending() ? keys.tailSet(from, false) : keys.headSet(from, false).descendingSet();
+    }
+
+    public long count(TrainingSearchConditionDto conditions) {
+        return match(conditions).size();
+    }
+
+    private List<Document> match(TrainingSearchConditionDto conditions) {
+        List<Document> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<String> tokens = tokenize(conditions.getKeyword());
+            RoaringBitmap candidates = candidates(tokens);
+            if (candidates == null) {
+                return result;
+            }
+
+            // 2글자 단위 일치는 부분 문자열 포함을 보장하지 않으므로 원문으로 한 번 더 확인
+            candidates.forEach((int id) -> {
+                Document document = documents.get(id);
+                if (document.matches(tokens, conditions)) {
+                    result.add(document);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // 검색어의 모든 글자 단위를 포함하는 트레이닝 id. 검색어가 없으면 null
+    private RoaringBitmap candidates(List<String> tokens) {
+        RoaringBitmap candidates = null;
+        for (String token : tokens) {
+            for (String gram : grams(token)) {
+                RoaringBitmap posting = postings.get(gram);
+                if (posting == null) {
+                    return new RoaringBitmap();
+                }
+                candidates = candidates == null ? posting.clone() : RoaringBitmap.and(candidates, posting);
+            }
+        }
+        return candidates;
+    }
+
+    private void add(Training training) {
+        Document document = new Document(training);
+        documents.put(document.id, document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(document.id);
+        }
+        for (String property : sortProperties) {
+            sortedKeys.computeIfAbsent(property, p -> new TreeSet<>()).add(new SortKey(document.sortValue(property), document.id));
+        }
+    }
+
+    private void delete(int id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            RoaringBitmap posting = postings.get(gram);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        for (String property : sortProperties) {
+            sortedKeys.get(property).remove(new SortKey(document.sortValue(property), id));
+        }
+    }
+
+    // 정렬 값이 같으면 id를 같은 방향으로 정렬 (DB 커서 조회와 같은 순서)
+    private Comparator<Document> comparator(String property, boolean ascending) {
+        Comparator<Document> comparator = Comparator.comparing((Document document) -> document.sortValue(property), TrainingKeywordIndex::compare)
+                .thenComparingInt(document -> document.id);
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private boolean isAfter(Document document, TrainingCursor cursor) {
+        int result = compare(document.sortValue(cursor.getProperty()), cursor.getSortValue());
+        if (result == 0) {
+            result = Long.compare(document.id, cursor.getId());
+        }
+        return cursor.isAscending() ? result > 0 : result < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Comparable<?> a, Comparable<?> b) {
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).trim().split("\\s+")).distinct().toList();
+    }
+
+    // 1글자 검색어도 찾을 수 있도록 1글자, 2글자 단위 모두 색인
+    private static Set<String> grams(String token) {
+        Set<String> grams = new HashSet<>();
+        if (token.length() == 1) {
+            grams.add(token);
+            return grams;
+        }
+        for (int i = 0; i < token.length() - 1; i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record SortKey(Comparable<?> value, int id) implements Comparable<SortKey> {
+        @Override
+        public int compareTo(SortKey other) {
+            int result = TrainingKeywordIndex.compare(value, other.value);
+            return result != 0 ? result : Integer.compare(id, other.id);
+        }
+    }
+
+    private static class Document {
+        private final int id;
+        private final String title;
+        private final int price;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Set<Category> categories;
+        private final String text;
+
+        private Document(Training training) {
+            this.id = Math.toIntExact(training.getId());
+            this.title = training.getTitle();
+            this.price = training.getPrice();
+            this.startDate = training.getStartDate();
+            this.endDate = training.getEndDate();
+            this.categories = EnumSet.noneOf(Category.class);
+            training.getCategories().stream().map(TrainingCategory::getCategory).forEach(categories::add);
+
+            StringJoiner joiner = new StringJoiner(" ");
+            joiner.add(training.getTitle()).add(training.getContent()).add(training.getAddress());
+            categories.forEach(category -> joiner.add(category.name()));
+            this.text = joiner.toString().toLowerCase(Locale.ROOT);
+        }
+
+        private Comparable<?> sortValue(String property) {
+            return switch (property) {
+                case "title" -> title;
+                case "startDate" -> startDate;
+                case "endDate" -> endDate;
+                case "price" -> price;
+                default -> (long) id;
+            };
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String token : tokenize(text)) {
+                for (int i = 0; i < token.length(); i++) {
+                    grams.add(token.substring(i, i + 1));
+                    if (i + 2 <= token.length()) {
+                        grams.add(token.substring(i, i + 2));
+                    }
+                }
+            }
+            return grams;
+        }
+
+        private boolean matches(List<String> tokens, TrainingSearchConditionDto conditions) {
+            for (String token : tokens) {
+                if (!text.contains(token)) return false;
+            }
+            if (conditions.getStartDate() != null && startDate.isBefore(conditions.getStartDate())) return false;
+            if (conditions.getEndDate() != null && endDate.isAfter(conditions.getEndDate())) return false;
+            if ((conditions.getLowestPrice() != 0 || conditions.getHighestPrice() != 0)
+                    && (price < conditions.getLowestPrice() || price > conditions.getHighestPrice())) return false;
+            return conditions.getCategory() == null || categories.contains(conditions.getCategory());
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.fithub.fithubbackend.domain.Training.repository;
 import com.fithub.fithubbackend.domain.Training.domain.TrainingLikes;
 import com.fithub.fithubbackend.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,17 @@ public interface TrainingLikesRepository extends JpaRepository<TrainingLikes, Lo
 
     List<TrainingLikes> findByTrainingId(Long trainingId);
     void deleteByUser(User user);
+
+    @Query("SELECT tl.training.id FROM TrainingLikes tl WHERE tl.user.id = :userId")
+    List<Long> findTrainingIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT tl.training.id FROM TrainingLikes tl WHERE tl.user.id = :userId AND tl.training.id IN :trainingIds")
+    List<Long> findTrainingIdsByUserIdAndTrainingIdIn(@Param("userId") Long userId, @Param("trainingIds") Collection<Long> trainingIds);
+
+    // 찜을 트레이닝별로 epoch 기준 감쇠 가중치로 합산 (training_id, score)
+    @Query(value = "SELECT tl.training_id, SUM(POW(2, TIMESTAMPDIFF(SECOND, :epoch, tl.created_date) / :halfLifeSeconds)) " +
+            "FROM training_likes tl JOIN training t ON t.id = tl.training_id " +
+            "WHERE t.deleted = false " +
+            "GROUP BY tl.training_id", nativeQuery = true)
+    List<Object[]> sumDecayedLikesByTraining(@Param("epoch") LocalDateTime epoch, @Param("halfLifeSeconds") long halfLifeSeconds);
 }
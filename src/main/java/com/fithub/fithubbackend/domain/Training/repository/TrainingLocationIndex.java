@@ -0,0 +1,155 @@
+package com.fithub.fithubbackend.domain.Training.repository;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import lombok.Getter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 모집 중인 트레이닝 위치의 공간 색인
+// STRtree는 만든 뒤 수정할 수 없으므로 변경분은 pending에 모았다가 일정 개수가 넘으면 트리를 다시 만듦
+@Component
+public class TrainingLocationIndex {
+
+    // ST_DISTANCE_SPHERE 기본 반지름 (m)
+    private static final double EARTH_RADIUS = 6370986;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS / 180;
+    private static final int PENDING_LIMIT = 256;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Entry> pending = new HashMap<>();
+    private STRtree tree = new STRtree();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild(List<Training> trainings) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            for (Training training : trainings) {
+                if (training.getPoint() != null) {
+                    entries.put(training.getId(), new Entry(training.getId(), training.getPoint()));
+                }
+            }
+            buildTree();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Training training) {
+        if (training.getPoint() == null) {
+            remove(training.getId());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Entry entry = new Entry(training.getId(), training.getPoint());
+            entries.put(entry.id, entry);
+            pending.put(entry.id, entry);
+            if (pending.size() > PENDING_LIMIT) {
+                buildTree();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트리에 남은 항목은 조회할 때 entries와 비교해서 걸러냄
+    public void remove(Long trainingId) {
+        lock.writeLock().lock();
+        try {
+            entries.remove(trainingId);
+            pending.remove(trainingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 반경(m) 안의 트레이닝을 가까운 순으로 조회
+    public Page<Nearby> search(double latitude, double longitude, double radius, Pageable pageable) {
+        double latDelta = radius / METERS_PER_DEGREE;
+        double lonDelta = latDelta / Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        Envelope envelope = new Envelope(longitude - lonDelta, longitude + lonDelta, latitude - latDelta, latitude + latDelta);
+
+        List<Nearby> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Object item : tree.query(envelope)) {
+                Entry entry = (Entry) item;
+                // 삭제되었거나 위치가 바뀐 항목
+                if (entries.get(entry.id) != entry) continue;
+                addIfWithin(result, entry, latitude, longitude, radius);
+            }
+            for (Entry entry : pending.values()) {
+                if (envelope.contains(entry.longitude, entry.latitude)) {
+                    addIfWithin(result, entry, latitude, longitude, radius);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparingDouble(Nearby::getDist).thenComparingLong(Nearby::getId));
+        int from = (int) Math.min(pageable.getOffset(), result.size());
+        int to = Math.min(from + pageable.getPageSize(), result.size());
+        return new PageImpl<>(new ArrayList<>(result.subList(from, to)), pageable, result.size());
+    }
+
+    private void addIfWithin(List<Nearby> result, Entry entry, double latitude, double longitude, double radius) {
+        double dist = haversine(latitude, longitude, entry.latitude, entry.longitude);
+        if (dist <= radius) {
+            result.add(new Nearby(entry.id, dist));
+        }
+    }
+
+    private void buildTree() {
+        STRtree newTree = new STRtree();
+        for (Entry entry : entries.values()) {
+            newTree.insert(new Envelope(entry.longitude, entry.longitude, entry.latitude, entry.latitude), entry);
+        }
+        newTree.build();
+        tree = newTree;
+        pending.clear();
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Getter
+    public static class Nearby {
+        private final Long id;
+        private final double dist;
+
+        private Nearby(Long id, double dist) {
+            this.id = id;
+            this.dist = dist;
+        }
+    }
+
+    // Point의 x는 경도, y는 위도
+    private static class Entry {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+
+        private Entry(Long id, Point point) {
+            this.id = id;
+            this.latitude = point.getY();
+            this.longitude = point.getX();
+        }
+    }
+}
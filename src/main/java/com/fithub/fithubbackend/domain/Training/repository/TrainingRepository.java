@@ -1,28 +1,74 @@
 package com.fithub.fithubbackend.domain.Training.repository;
 
 import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingScheduleWindowDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface TrainingRepository extends JpaRepository<Training, Long> {
 
-    Page<Training> findAllByDeletedFalseAndClosedFalse(Pageable pageable);
     Page<Training> findAllByDeletedFalseAndTrainerIdAndClosed(Long trainerId, boolean closed, Pageable pageable);
     List<Training> findByDeletedFalseAndClosedFalseAndTrainerId(Long trainerId);
 
-    List<Training> findByDeletedFalseAndClosedFalseAndStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDate startDate, LocalDate endDate);
+    @Modifying
+    @Query("UPDATE Training t SET t.remainingSlots = t.remainingSlots + :amount WHERE t.id = :id")
+    int addRemainingSlots(@Param("id") Long id, @Param("amount") long amount);
+
+    // 남은 시간 수 = boundary 이후 예약 규칙의 시간 수(futureSlots) - boundary 이후 예약되었거나 닫힌 시간 수. 예약과 겹쳐도 유실되지 않도록 한 문장에서 계산
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE training tr SET tr.remaining_slots = :futureSlots - (" +
+            "SELECT COUNT(*) FROM available_time t JOIN available_date d ON d.id = t.available_date_id " +
+            "WHERE d.training_id = tr.id AND d.deleted = false AND t.enabled = false AND t.deleted = false " +
+            "AND d.date BETWEEN tr.start_date AND tr.end_date AND TIMESTAMP(d.date, t.time) > :boundary " +
+            "AND NOT EXISTS (SELECT 1 FROM training_unable_date u WHERE u.training_id = tr.id AND u.unable_date = d.date)) " +
+            "WHERE tr.id = :id", nativeQuery = true)
+    int refreshRemainingSlots(@Param("id") Long id, @Param("futureSlots") long futureSlots, @Param("boundary") LocalDateTime boundary);
+
+    // 예약되지 않은 채 지난 시간만큼 남은 시간 수를 줄임. 예약되었거나 닫힌 시간은 그때 이미 줄었으므로 제외
+    @Modifying
+    @Query(value = "UPDATE training tr SET tr.remaining_slots = tr.remaining_slots - 1 " +
+            "WHERE tr.deleted = false AND :date BETWEEN tr.start_date AND tr.end_date AND tr.start_hour <> tr.end_hour " +
+            "AND (CASE WHEN tr.start_hour < tr.end_hour THEN :time >= tr.start_hour AND :time < tr.end_hour ELSE :time >= tr.start_hour OR :time < tr.end_hour END) " +
+            "AND NOT EXISTS (SELECT 1 FROM training_unable_date u WHERE u.training_id = tr.id AND u.unable_date = :date) " +
+            "AND NOT EXISTS (SELECT 1 FROM available_time t JOIN available_date d ON d.id = t.available_date_id " +
+            "WHERE d.training_id = tr.id AND d.date = :date AND t.time = :time AND t.enabled = false AND t.deleted = false)", nativeQuery = true)
+    int expireSlots(@Param("date") LocalDate date, @Param("time") LocalTime time);
+
+    @Modifying
+    @Query("UPDATE Training t SET t.closed = true WHERE t.closed = false AND t.deleted = false AND t.remainingSlots <= 0")
+    int closeSoldOutTrainings();
+
+    @Query("SELECT DISTINCT t FROM Training t LEFT JOIN FETCH t.unableDates WHERE t.deleted = false AND t.endDate >= :date")
+    List<Training> findAllNotEndedFetchUnableDates(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE Training t SET t.closed = true WHERE t.closed = false AND t.deleted = false AND (t.endDate < :date OR (t.endDate = :date AND t.endHour <= :time))")
+    int closeEndedTrainings(@Param("date") LocalDate date, @Param("time") LocalTime time);
+
     List<Training> findByTrainerId(Long trainerId);
+
+    // 끝나지 않은 트레이닝의 예약 규칙. 마감된 트레이닝도 트레이너의 일정이므로 포함
+    @Query("SELECT new com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingScheduleWindowDto(t.id, t.startDate, t.endDate, t.startHour, t.endHour, u) " +
+            "FROM Training t LEFT JOIN t.unableDates u WHERE t.trainer.id = :trainerId AND t.deleted = false AND t.endDate >= :date")
+    List<TrainingScheduleWindowDto> findScheduleWindowsByTrainerId(@Param("trainerId") Long trainerId, @Param("date") LocalDate date);
+
+    @Query("SELECT new com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingScheduleWindowDto(t.id, t.startDate, t.endDate, t.startHour, t.endHour, u) " +
+            "FROM Training t LEFT JOIN t.unableDates u WHERE t.id = :trainingId")
+    List<TrainingScheduleWindowDto> findScheduleWindowsByTrainingId(@Param("trainingId") Long trainingId);
+
+    @Query("SELECT DISTINCT t FROM Training t LEFT JOIN FETCH t.categories WHERE t.closed = false AND t.deleted = false")
+    List<Training> findAllOpenFetchCategories();
     boolean existsByDeletedFalseAndClosedFalseAndTrainerId(Long trainerId);
     boolean existsByTrainerIdAndEndDateAfter(Long trainerId, LocalDate now);
     @Query(value = "SELECT * FROM training AS t WHERE t.deleted = false AND t.closed = false AND MBRContains(ST_LINESTRINGFROMTEXT(:pointFormat), t.point)", nativeQuery = true)
     List<Training> findByPoint(@Param("pointFormat")String pointFormat, Pageable pageable);
-
-    @Query(value = "SELECT ST_DISTANCE_SPHERE(POINT(:lon, :lat), t.point) AS dist FROM training t WHERE t.id = :id", nativeQuery = true)
-    Double findDistByPoint(@Param("lon") Double lon, @Param("lat") Double lat, @Param("id") Long id);
 }
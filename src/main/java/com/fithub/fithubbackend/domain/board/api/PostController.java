@@ -8,6 +8,8 @@ import com.fithub.fithubbackend.domain.board.dto.comment.CommentInfoDto;
 import com.fithub.fithubbackend.domain.board.dto.comment.ParentCommentInfoDto;
 import com.fithub.fithubbackend.domain.board.dto.likes.LikedUsersInfoDto;
 import com.fithub.fithubbackend.domain.board.dto.likes.LikesInfoDto;
+import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.global.domain.AuthUser;
 import com.fithub.fithubbackend.global.exception.ErrorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,15 +45,15 @@ public class PostController {
         return ResponseEntity.ok(postService.getAllPosts(pageable));
     }
 
-    @Operation(summary = "게시글 세부 조회", responses = {
+    @Operation(summary = "게시글 세부 조회, 조회수 증가 (로그인한 회원은 10분 안에 다시 조회하면 증가하지 않음)", responses = {
             @ApiResponse(responseCode = "200", description = "게시글 세부 조회 성공"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     }, parameters = {
             @Parameter(name="postId", description = "게시글 id")
     })
     @GetMapping("/{postId}")
-    public ResponseEntity<PostInfoDto> getPostDetail(@PathVariable("postId") long postId) {
-        return ResponseEntity.ok(postService.getPostDetail(postId));
+    public ResponseEntity<PostInfoDto> getPostDetail(@PathVariable("postId") long postId, @AuthUser User user) {
+        return ResponseEntity.ok(postService.getPostDetail(postId, user));
     }
 
     @Operation(summary = "세부 게시글의 좋아요 정보 요약 조회 (개수와 최대 4개의 회원 정보)", responses = {
@@ -111,14 +113,15 @@ public class PostController {
     @Operation(summary = "게시글 검색 (swagger에서 api 테스트 X. pageable을 request Body 전달 받기 때문. pageable를 파라미터로 전달해야 함.)", parameters = {
             @Parameter(name = "keyword", description = "검색 키워드"),
             @Parameter(name = "scope", description = " 검색 범위 ex) content(기본), writer, hashtags"),
-            @Parameter(name = "pageable", description = "page(size = 9, sort = \"id\", desc 적용). 파라미터로 전달. 페이지 이동 시 page 값만 보내주면 됨. ex) \"page\" : 0 인 경우 1 페이지"),
-            @Parameter(name = "pageable의 sort", description = "페이지 정렬 방식 (기본 id,desc : 최신순, 생략 가능) ex) likes,desc (좋아요 순), comments,desc (댓글 순) 지정 가능."),
+            @Parameter(name = "blend", description = "관련도 순 정렬 시 최신순, 좋아요 수도 함께 반영 (기본 false)"),
+            @Parameter(name = "pageable", description = "page(size = 10). 파라미터로 전달. 페이지 이동 시 page 값만 보내주면 됨. ex) \"page\" : 0 인 경우 1 페이지"),
+            @Parameter(name = "pageable의 sort", description = "페이지 정렬 방식 (기본: 키워드가 있으면 relevance,desc 관련도 순, 없으면 id,desc 최신순) ex) id,desc (최신순), likes,desc (좋아요 순), comments,desc (댓글 순) 지정 가능."),
     }, responses = {
-            @ApiResponse(responseCode = "200", description = "검색 완료"),
+            @ApiResponse(responseCode = "200", description = "검색 완료. 내용, 작성자 검색의 전체 개수는 최대 1000개까지만 셈"),
     })
     @PostMapping("/search")
     public ResponseEntity<Page<PostInfoDto>> searchPostsByKeyword(PostSearchFilterDto filter,
-                                                                  @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+                                                                  @PageableDefault Pageable pageable) {
         return ResponseEntity.ok().body(postService.searchPostsByKeyword(filter, pageable));
     }
 
@@ -2,7 +2,9 @@ package com.fithub.fithubbackend.domain.board.application;
 
 import com.fithub.fithubbackend.global.domain.Hashtag;
 
+import java.util.List;
+
 public interface HashtagService {
 
-    Hashtag save(String hashTagContent);
+    List<Hashtag> resolve(List<String> hashTagContents);
 }
@@ -2,30 +2,109 @@ package com.fithub.fithubbackend.domain.board.application;
 
 import com.fithub.fithubbackend.domain.board.repository.HashtagRepository;
 import com.fithub.fithubbackend.global.domain.Hashtag;
+import com.fithub.fithubbackend.global.exception.CustomException;
+import com.fithub.fithubbackend.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class HashtagServiceImpl implements HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final JdbcTemplate jdbcTemplate;
 
+    private final long cacheMaxSize = 10000;
+    private final int maxContentLength = 255;
+
+    // 해시태그 내용 -> id. 해시태그는 삭제되지 않으므로 만료 없이 크기로만 제한
+    private Cache<String, Long> hashtagIdCache;
+
+    @PostConstruct
+    public void init() {
+        hashtagIdCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    // 정규화된 해시태그 목록을 같은 순서의 Hashtag 목록으로 변환. 없는 해시태그는 한 번에 추가
     @Override
     @Transactional
-    public Hashtag save(String hashTagContent) {
+    public List<Hashtag> resolve(List<String> hashTagContents) {
+        if (hashTagContents.isEmpty())
+            return Collections.emptyList();
+
+        hashTagContents.stream().filter(content -> content.length() > maxContentLength).findFirst().ifPresent(content -> {
+            throw new CustomException(ErrorCode.INVALID_FORM_DATA, "해시태그는 " + maxContentLength + "자 이하로 입력해주세요.");
+        });
+
+        Map<String, Long> hashtagIds = new HashMap<>(hashtagIdCache.getAllPresent(hashTagContents));
 
-        Optional<Hashtag> hashtag = hashtagRepository.findByContent(hashTagContent);
+        List<String> missing = hashTagContents.stream().filter(content -> !hashtagIds.containsKey(content)).toList();
+        if (!missing.isEmpty()) {
+            Map<String, Long> found = findIds(missing);
+            hashtagIds.putAll(found);
+            hashtagIdCache.putAll(found);
 
-        if (hashtag.isPresent())
-            return hashtag.get();
+            List<String> newContents = missing.stream().filter(content -> !found.containsKey(content)).toList();
+            if (!newContents.isEmpty()) {
+                // 동시에 같은 해시태그를 추가하는 경우 unique 키 충돌은 무시하고 다시 조회
+                jdbcTemplate.batchUpdate("INSERT INTO hashtag (content) VALUES (?) ON DUPLICATE KEY UPDATE id = id",
+                        newContents, newContents.size(), (ps, content) -> ps.setString(1, content));
 
-        Hashtag newHashtag = Hashtag.builder().content(hashTagContent).build();
-        hashtagRepository.save(newHashtag);
+                Map<String, Long> inserted = findIds(newContents);
+                // 대소문자, 악센트 외의 collation 규칙으로 같은 값이 된 경우는 DB 비교로 다시 찾음
+                newContents.stream().filter(content -> !inserted.containsKey(content))
+                        .forEach(content -> hashtagRepository.findByContent(content).ifPresent(hashtag -> inserted.put(content, hashtag.getId())));
+                hashtagIds.putAll(inserted);
+                afterCommit(() -> hashtagIdCache.putAll(inserted));
+            }
+        }
+
+        return hashTagContents.stream()
+                .map(content -> {
+                    Long id = hashtagIds.get(content);
+                    if (id == null)
+                        throw new CustomException(ErrorCode.INVALID_FORM_DATA, "저장할 수 없는 해시태그입니다: " + content);
+                    return hashtagRepository.getReferenceById(id);
+                })
+                .toList();
+    }
+
+    // DB에는 대소문자, 악센트만 다른 해시태그(예: "PT", "café")가 이미 있을 수 있으므로 collation과 같은 기준으로 매칭
+    private Map<String, Long> findIds(List<String> hashTagContents) {
+        Map<String, String> contentsByMatchKey = new HashMap<>();
+        hashTagContents.forEach(content -> contentsByMatchKey.putIfAbsent(Hashtag.toMatchKey(content), content));
+
+        Map<String, Long> ids = new HashMap<>();
+        for (Hashtag hashtag : hashtagRepository.findByContentIn(hashTagContents)) {
+            String content = contentsByMatchKey.get(Hashtag.toMatchKey(hashtag.getContent()));
+            if (content != null)
+                ids.put(content, hashtag.getId());
+        }
+        return ids;
+    }
 
-        return newHashtag;
+    // 롤백되면 추가한 해시태그도 사라지므로 커밋 후에만 캐시에 넣음
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,46 @@
+package com.fithub.fithubbackend.domain.board.application;
+
+import com.fithub.fithubbackend.domain.board.dto.PostInfoDto;
+import com.fithub.fithubbackend.domain.board.dto.PostWriterInfoDto;
+import com.fithub.fithubbackend.domain.board.post.domain.Post;
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 게시글 목록을 PostInfoDto로 변환. 게시글마다 작성자, 해시태그, 첨부 이미지를 지연 로딩하지 않고 종류별로 IN 쿼리 한 번씩 조회
+@Component
+@RequiredArgsConstructor
+public class PostFeedAssembler {
+
+    private final PostRepository postRepository;
+
+    public Page<PostInfoDto> assemble(Page<Post> posts) {
+        return new PageImpl<>(assemble(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    public List<PostInfoDto> assemble(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        // 작성자 프록시는 id만 읽으므로 초기화되지 않음
+        Set<Long> writerIds = new HashSet<>();
+        posts.forEach(post -> writerIds.add(post.getUser().getId()));
+
+        Map<Long, PostWriterInfoDto> writers = postRepository.findWritersByUserIdIn(writerIds);
+        Map<Long, List<String>> hashtags = postRepository.findHashtagsByPostIdIn(postIds);
+        Map<Long, List<String>> documentUrls = postRepository.findDocumentUrlsByPostIdIn(postIds);
+
+        return posts.stream()
+                .map(post -> PostInfoDto.of(post,
+                        writers.get(post.getUser().getId()),
+                        hashtags.getOrDefault(post.getId(), new ArrayList<>()),
+                        documentUrls.getOrDefault(post.getId(), new ArrayList<>())))
+                .toList();
+    }
+}
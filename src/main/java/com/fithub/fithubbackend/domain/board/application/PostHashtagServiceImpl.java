@@ -2,13 +2,13 @@ package com.fithub.fithubbackend.domain.board.application;
 
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.fithub.fithubbackend.domain.board.post.domain.PostHashtag;
-import com.fithub.fithubbackend.domain.board.repository.HashtagRepository;
 import com.fithub.fithubbackend.domain.board.repository.PostHashtagRepository;
 import com.fithub.fithubbackend.global.domain.Hashtag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.text.Normalizer;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,83 +18,53 @@ public class PostHashtagServiceImpl implements PostHashtagService {
 
     private final PostHashtagRepository postHashtagRepository;
     private final HashtagService hashtagService;
-    private final HashtagRepository hashtagRepository;
 
     @Override
     @Transactional
     public void createPostHashtag(String hashTagContentStr, Post post) {
         List<String> hashTagContents = extractHashTags(hashTagContentStr);
-        hashTagContents.forEach(hashTagContent -> savePostHashtag(hashTagContent, post));
-    }
-
-    @Transactional
-    public void savePostHashtag(String hashTagContent, Post post){
-        Hashtag hashtag = hashtagService.save(hashTagContent);
-        post.addPostHashtag(new PostHashtag(post, hashtag));
+        hashtagService.resolve(hashTagContents).forEach(hashtag -> post.addPostHashtag(new PostHashtag(post, hashtag)));
     }
 
     @Override
     @Transactional
     public void updateHashtag(String hashTagContentStr, Post post) {
 
-        // DB에 저장된 PostHashtags 리스트
-        List<PostHashtag> dbPostHashtags = postHashtagRepository.findByPostFetch(post.getId());
-
-        // 문자열 형태의 기존 DB에 저장된 해시태그 리스트
-        List<String> oldHashTags = postHashtagRepository.findHashtagByPostId(post.getId());
-
-        // 문자열 형태의 새로운 해시태그 리스트
-        List<String> newHashtags = extractHashTags(hashTagContentStr);
-
-        if (oldHashTags.equals(newHashtags))
-            return;
-
-        int i, j;
-        for (i = 0; i < newHashtags.size(); i++ ) {
-
-            String newHashtagContent = newHashtags.get(i);
-            Optional<Hashtag> hashtag = hashtagRepository.findByContent(newHashtagContent);
-
-            if (i < oldHashTags.size()) {
-                if (!newHashtagContent.equals(oldHashTags.get(i))) {
-                    PostHashtag dbPostHashtag = dbPostHashtags.get(i);
-
-                    hashtag.ifPresentOrElse(
-                            h -> dbPostHashtag.setHashtag(h),
-                            () -> {
-                                Hashtag newHashtag = new Hashtag(newHashtagContent);
-                                hashtagRepository.save(newHashtag);
-                                dbPostHashtag.setHashtag(newHashtag);
-                            }
-                    );
-                }
-            }
-            else {
-                String addHashtagContent = newHashtags.get(i);
-
-                hashtag.ifPresentOrElse(
-                        h -> post.addPostHashtag(new PostHashtag(post, hashtag.get())),
-                        () -> {
-                            Hashtag addHashtag = new Hashtag(addHashtagContent);
-                            hashtagRepository.save(addHashtag);
-                            post.addPostHashtag(new PostHashtag(post, addHashtag));
-                        }
-                );
-            }
+        // DB에 저장된 해시태그 비교 키 -> PostHashtag
+        // 예전에 중복 저장된 해시태그는 하나만 남기고 삭제
+        Map<String, PostHashtag> dbPostHashtags = new HashMap<>();
+        List<PostHashtag> removed = new ArrayList<>();
+        for (PostHashtag postHashtag : postHashtagRepository.findByPostFetch(post.getId())) {
+            if (dbPostHashtags.putIfAbsent(Hashtag.toMatchKey(postHashtag.getHashtag().getContent()), postHashtag) != null)
+                removed.add(postHashtag);
         }
 
-        if (newHashtags.size() < oldHashTags.size()) {
-            for (j = i; j < oldHashTags.size(); j++) {
-                post.getPostHashtags().remove(dbPostHashtags.get(j));
-            }
+        // 문자열 형태의 새로운 해시태그 리스트
+        List<String> newHashtags = hashTagContentStr == null ? Collections.emptyList() : extractHashTags(hashTagContentStr);
+        Set<String> newHashtagKeys = newHashtags.stream().map(Hashtag::toMatchKey).collect(Collectors.toSet());
+
+        // 그대로 남은 해시태그는 건드리지 않고, 빠진 해시태그만 삭제하고 새 해시태그만 추가
+        dbPostHashtags.forEach((matchKey, postHashtag) -> {
+            if (!newHashtagKeys.contains(matchKey))
+                removed.add(postHashtag);
+        });
+        if (!removed.isEmpty())
+            post.getPostHashtags().removeAll(removed);
+
+        List<String> added = newHashtags.stream().filter(content -> !dbPostHashtags.containsKey(Hashtag.toMatchKey(content))).toList();
+        for (Hashtag hashtag : hashtagService.resolve(added)) {
+            post.addPostHashtag(new PostHashtag(post, hashtag));
         }
-
     }
 
+    // 공백 정리, 유니코드 정규화, 소문자 변환 후 DB collation 기준으로 중복 제거. unique 키의 대소문자 무시 비교와 맞추기 위해 소문자로 저장
     public List<String> extractHashTags(String hashTagContentStr) {
+        Set<String> matchKeys = new HashSet<>();
         return Arrays.stream(hashTagContentStr.split("#"))
-                .map(String::trim)
+                .map(hashTag -> Normalizer.normalize(hashTag, Normalizer.Form.NFC))
+                .map(hashTag -> hashTag.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
                 .filter(hashTag -> hashTag.length() > 0)
+                .filter(hashTag -> matchKeys.add(Hashtag.toMatchKey(hashTag)))
                 .collect(Collectors.toList());
     }
 
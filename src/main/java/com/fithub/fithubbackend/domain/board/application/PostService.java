@@ -3,6 +3,7 @@ package com.fithub.fithubbackend.domain.board.application;
 import com.fithub.fithubbackend.domain.board.dto.*;
 import com.fithub.fithubbackend.domain.board.dto.likes.LikedUsersInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
+import com.fithub.fithubbackend.domain.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,7 +13,7 @@ import java.util.List;
 public interface PostService {
     Page<PostInfoDto> getAllPosts(Pageable pageable);
 
-    PostInfoDto getPostDetail(long postId);
+    PostInfoDto getPostDetail(long postId, User user);
 
     Post getPost(Long postId);
 
@@ -4,6 +4,7 @@ import com.fithub.fithubbackend.domain.board.dto.*;
 import com.fithub.fithubbackend.domain.board.dto.likes.LikedUsersInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import com.fithub.fithubbackend.domain.user.domain.User;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -21,29 +24,31 @@ import java.util.List;
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
-    private final CommentService commentService;
+    private final PostFeedAssembler postFeedAssembler;
+    private final PostViewService postViewService;
+
+    // innodb_ft_min_token_size(기본 3)보다 짧은 단어는 FULLTEXT 색인에 없어 찾을 수 없음
+    private final int minFullTextTermLength = 3;
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostInfoDto> getAllPosts(Pageable pageable) {
         Page<Post> posts = postRepository.findAll(pageable);
-
-        return posts.map(post -> {
-            PostInfoDto postInfoDto = PostInfoDto.toDto(post);
-            postInfoDto.updatePostCommentCount((int) commentService.countCommentByPostId(postInfoDto.getPostId()));
-            return postInfoDto;
-        });
+        return postFeedAssembler.assemble(posts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PostInfoDto getPostDetail(long postId) {
+    public PostInfoDto getPostDetail(long postId, User user) {
         Post post = postRepository.findByPostIdWithFetchJoin(postId);
 
         if (post == null)
             throw new CustomException(ErrorCode.NOT_FOUND, "존재하지 않는 게시글");
 
-        return PostInfoDto.toDto(post);
+        postViewService.increaseViews(postId, user);
+        PostInfoDto postInfoDto = PostInfoDto.toDto(post);
+        postInfoDto.updateViews(post.getViews() + (int) postViewService.getPendingViews(postId));
+        return postInfoDto;
     }
 
     @Override
@@ -70,13 +75,20 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public Page<PostInfoDto> searchPostsByKeyword(PostSearchFilterDto filter, Pageable pageable) {
-        Page<Post> posts = postRepository.searchPostsByKeyword(filter, pageable);
+        // 해시태그는 해시태그 테이블에서 찾으므로 전문 검색 대상이 아님. 짧은 단어가 있으면 LIKE로 검색
+        boolean fullText = StringUtils.hasText(filter.getKeyword()) && !"hashtags".equals(filter.getScope())
+                && isFullTextSearchable(filter.getKeyword());
+        Page<Post> posts = fullText
+                ? postRepository.searchPostsByFullText(filter, pageable)
+                : postRepository.searchPostsByKeyword(filter, pageable);
+        return postFeedAssembler.assemble(posts);
+    }
 
-        return posts.map(post -> {
-            PostInfoDto postInfoDto = PostInfoDto.toDto(post);
-            postInfoDto.updatePostCommentCount((int) commentService.countCommentByPostId(postInfoDto.getPostId()));
-            return postInfoDto;
-        });
+    private boolean isFullTextSearchable(String keyword) {
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@'`]", ""))
+                .filter(term -> !term.isEmpty())
+                .allMatch(term -> term.codePointCount(0, term.length()) >= minFullTextTermLength);
     }
 
     @Transactional
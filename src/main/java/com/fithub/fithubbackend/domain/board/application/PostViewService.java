@@ -0,0 +1,9 @@
+package com.fithub.fithubbackend.domain.board.application;
+
+import com.fithub.fithubbackend.domain.user.domain.User;
+
+public interface PostViewService {
+    void increaseViews(Long postId, User user);
+    long getPendingViews(Long postId);
+    void flush();
+}
@@ -0,0 +1,107 @@
+package com.fithub.fithubbackend.domain.board.application;
+
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import com.fithub.fithubbackend.domain.user.domain.User;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수는 서버 메모리에 모았다가 주기적으로 한 번의 UPDATE로 반영 (조회 시 DB 쓰기 없음)
+// 서버가 비정상 종료되면 마지막 반영 이후의 조회수는 유실될 수 있음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewServiceImpl implements PostViewService {
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    private final String viewerKeyPrefix = "post:viewer:";
+    private final Duration viewerTtl = Duration.ofMinutes(10);
+    private final int flushBatchSize = 500;
+
+    // 로그인한 회원은 같은 게시글을 viewerTtl 안에 다시 조회해도 한 번만 셈
+    @Override
+    public void increaseViews(Long postId, User user) {
+        if (user != null && !isFirstView(postId, user.getId())) {
+            return;
+        }
+        addPendingViews(postId, 1);
+    }
+
+    // 이미 adder가 있으면 잠금 없이 더함
+    private void addPendingViews(Long postId, long delta) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    private boolean isFirstView(Long postId, Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(viewerKeyPrefix + postId + ":" + userId, "1", viewerTtl));
+        } catch (DataAccessException e) {
+            return true;
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 이 서버의 조회수
+    @Override
+    public long getPendingViews(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Override
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 정리. 빼낸 adder에 그 사이 더해진 조회수는 다시 더해 둠
+                if (pendingViews.remove(postId, adder)) {
+                    long remainder = adder.sumThenReset();
+                    if (remainder > 0) {
+                        addPendingViews(postId, remainder);
+                    }
+                }
+            }
+        });
+
+        Map<Long, Long> batch = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == flushBatchSize) {
+                flushBatch(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch);
+        }
+    }
+
+    private void flushBatch(Map<Long, Long> batch) {
+        try {
+            postRepository.addViews(batch);
+        } catch (DataAccessException e) {
+            log.warn("게시글 조회수 반영 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            batch.forEach(this::addPendingViews);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
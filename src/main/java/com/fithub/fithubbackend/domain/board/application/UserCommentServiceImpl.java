@@ -6,6 +6,7 @@ import com.fithub.fithubbackend.domain.board.dto.comment.CommentCreateDto;
 import com.fithub.fithubbackend.domain.board.dto.comment.CommentUpdateDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.fithub.fithubbackend.domain.board.repository.CommentRepository;
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
 import com.fithub.fithubbackend.domain.user.domain.User;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
@@ -24,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserCommentServiceImpl implements UserCommentService {
     private final ApplicationEventPublisher eventPublisher;
     private final CommentRepository commentRepository;
+    private final PostFeedAssembler postFeedAssembler;
+    private final PostRepository postRepository;
     private final PostService postService;
 
     @Override
@@ -37,6 +40,7 @@ public class UserCommentServiceImpl implements UserCommentService {
                 .parent(commentCreateDto.getParentCommentId() == null ? null : getComment(commentCreateDto.getParentCommentId()))
                 .build();
         commentRepository.save(comment);
+        postRepository.addCommentCount(comment.getPost().getId(), 1);
         sendNotify(comment);
 
     }
@@ -104,15 +108,21 @@ public class UserCommentServiceImpl implements UserCommentService {
         Comment comment = getComment(commentId);
 
         if (isWriter(user, comment)) {
+            Long postId = comment.getPost().getId();
             if (comment.getParent() == null)  {     // 최상위 댓글 삭제 시, 그 아래 댓글들 모두 삭제
+                int removedCount = countNotDeleted(comment);
                 commentRepository.deleteByParentAndPost(comment, comment.getPost());
                 commentRepository.delete(comment);
+                postRepository.addCommentCount(postId, -removedCount);
             }
             else {
+                boolean counted = comment.getDeleted() == null;
                 if (comment.getChildren().isEmpty())
                     commentRepository.delete(comment);
                 else
                     comment.deleteComment();
+                if (counted)
+                    postRepository.addCommentCount(postId, -1);
             }
         }
         else {
@@ -120,11 +130,20 @@ public class UserCommentServiceImpl implements UserCommentService {
         }
     }
 
+    // 함께 삭제되는 댓글 중 댓글 수에 포함된 댓글 수
+    private int countNotDeleted(Comment comment) {
+        int count = comment.getDeleted() == null ? 1 : 0;
+        for (Comment child : comment.getChildren()) {
+            count += countNotDeleted(child);
+        }
+        return count;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<PostInfoDto> getPostsByUserAndComments(Pageable pageable, User user) {
         Page<Post> posts = commentRepository.findPostsByUserAndComments(pageable, user);
-        return posts.map(PostInfoDto::toDto);
+        return postFeedAssembler.assemble(posts);
     }
 
     @Transactional
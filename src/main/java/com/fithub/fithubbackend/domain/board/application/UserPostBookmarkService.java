@@ -14,6 +14,7 @@ public interface UserPostBookmarkService {
     void deleteBookmark(User user, long postId);
 
     boolean isBookmarked(User user, Long postId);
+    Set<Long> findBookmarkedPostIds(User user, List<Long> postIds);
 
     Page<PostInfoDto> getBookmarkedPosts(User user, Pageable pageable);
 
@@ -4,7 +4,9 @@ import com.fithub.fithubbackend.domain.board.dto.PostInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Bookmark;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.fithub.fithubbackend.domain.board.repository.BookmarkRepository;
+import com.fithub.fithubbackend.domain.user.application.UserMembershipService;
 import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -16,13 +18,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserPostBookmarkServiceImpl implements UserPostBookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
+    private final PostFeedAssembler postFeedAssembler;
     private final PostService postService;
+    private final UserMembershipService userMembershipService;
 
     @Override
     @Transactional
@@ -36,6 +41,7 @@ public class UserPostBookmarkServiceImpl implements UserPostBookmarkService {
             throw new CustomException(ErrorCode.DUPLICATE, "이미 북마크한 게시글입니다.");
 
         post.addBookmark(new Bookmark(user, post));
+        userMembershipService.add(MembershipType.POST_BOOKMARK, user.getId(), postId);
     }
 
     @Override
@@ -46,21 +52,26 @@ public class UserPostBookmarkServiceImpl implements UserPostBookmarkService {
 
         Optional<Bookmark> bookmark = bookmarkRepository.findByUserAndPost(user, post);
 
-        if (bookmark.isPresent())
+        if (bookmark.isPresent()) {
             post.getBookmarks().remove(bookmark.get());
+            userMembershipService.remove(MembershipType.POST_BOOKMARK, user.getId(), postId);
+        }
     }
 
     @Override
     public boolean isBookmarked(User user, Long postId) {
-        if (bookmarkRepository.existsByUserAndPostId(user, postId))
-            return true;
-        return false;
+        return userMembershipService.isMember(MembershipType.POST_BOOKMARK, user.getId(), postId);
+    }
+
+    @Override
+    public Set<Long> findBookmarkedPostIds(User user, List<Long> postIds) {
+        return userMembershipService.findMembers(MembershipType.POST_BOOKMARK, user.getId(), postIds);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostInfoDto> getBookmarkedPosts(User user, Pageable pageable) {
         Page<Post> posts = bookmarkRepository.findPostsByUser(user, pageable);
-        return posts.map(PostInfoDto::toDto);
+        return postFeedAssembler.assemble(posts);
     }
 }
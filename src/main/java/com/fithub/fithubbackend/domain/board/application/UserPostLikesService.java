@@ -5,11 +5,15 @@ import com.fithub.fithubbackend.domain.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Set;
+
 public interface UserPostLikesService {
     void addLikes(User user, long postId);
 
     void deleteLikes(User user, long postId);
 
     boolean isLiked(User user, Long postId);
+    Set<Long> findLikedPostIds(User user, List<Long> postIds);
     Page<PostInfoDto> getLikedPosts(User user, Pageable pageable);
 }
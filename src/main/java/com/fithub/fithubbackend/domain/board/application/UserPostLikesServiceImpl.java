@@ -4,7 +4,10 @@ import com.fithub.fithubbackend.domain.board.dto.PostInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Likes;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.fithub.fithubbackend.domain.board.repository.LikesRepository;
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import com.fithub.fithubbackend.domain.user.application.UserMembershipService;
 import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
 import com.fithub.fithubbackend.global.notify.NotificationType;
@@ -16,14 +19,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserPostLikesServiceImpl implements UserPostLikesService {
 
     private final LikesRepository likesRepository;
+    private final PostFeedAssembler postFeedAssembler;
+    private final PostRepository postRepository;
     private final PostService postService;
+    private final UserMembershipService userMembershipService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -36,6 +44,8 @@ public class UserPostLikesServiceImpl implements UserPostLikesService {
             throw new CustomException(ErrorCode.DUPLICATE, "이미 좋아요한 게시글입니다.");
 
         post.addLikes(new Likes(user, post));
+        postRepository.addLikeCount(postId, 1);
+        userMembershipService.add(MembershipType.POST_LIKES, user.getId(), postId);
 
         if (user != post.getUser())
             eventPublisher.publishEvent(createLikesNotifyRequest(post, user));
@@ -57,22 +67,28 @@ public class UserPostLikesServiceImpl implements UserPostLikesService {
 
         Post post = postService.getPost(postId);
         Optional<Likes> likes = likesRepository.findByUserAndPost(user, post);
-        if (likes.isPresent())
+        if (likes.isPresent()) {
             post.getLikes().remove(likes.get());
+            postRepository.addLikeCount(postId, -1);
+            userMembershipService.remove(MembershipType.POST_LIKES, user.getId(), postId);
+        }
     }
 
     @Override
     public boolean isLiked(User user, Long postId) {
-        if (likesRepository.existsByUserAndPostId(user, postId))
-            return true;
-        return false;
+        return userMembershipService.isMember(MembershipType.POST_LIKES, user.getId(), postId);
+    }
+
+    @Override
+    public Set<Long> findLikedPostIds(User user, List<Long> postIds) {
+        return userMembershipService.findMembers(MembershipType.POST_LIKES, user.getId(), postIds);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostInfoDto> getLikedPosts(User user, Pageable pageable) {
         Page<Post> posts = likesRepository.findPostsByUser(user, pageable);
-        return posts.map(PostInfoDto::toDto);
+        return postFeedAssembler.assemble(posts);
     }
 
 }
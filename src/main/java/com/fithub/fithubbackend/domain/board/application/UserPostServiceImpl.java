@@ -16,11 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserPostServiceImpl implements UserPostService {
     private final PostRepository postRepository;
+    private final PostFeedAssembler postFeedAssembler;
     private final PostDocumentService postDocumentService;
     private final PostHashtagService postHashtagService;
     private final UserPostLikesService userPostLikesService;
@@ -83,34 +85,32 @@ public class UserPostServiceImpl implements UserPostService {
     @Transactional(readOnly = true)
     public LikesBookmarkStatusDto checkPostLikeAndBookmarkStatus(User user, long postId) {
         Post post = getPost(postId);
-        return checkLikeAndBookmarkStatus(user, post.getId());
+        return checkLikeAndBookmarkStatus(user, List.of(post.getId())).get(0);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<LikesBookmarkStatusDto> checkPostsLikeAndBookmarkStatus(List<PostRequestDto> postRequestDtos, User user) {
+        List<Long> postIds = postRequestDtos.stream().map(PostRequestDto::getPostId).toList();
+        return checkLikeAndBookmarkStatus(user, postIds);
+    }
+
+    // 좋아요, 북마크 여부를 게시글 수와 관계없이 한 번씩만 조회
+    private List<LikesBookmarkStatusDto> checkLikeAndBookmarkStatus(User user, List<Long> postIds) {
+        Set<Long> likedPostIds = userPostLikesService.findLikedPostIds(user, postIds);
+        Set<Long> bookmarkedPostIds = userPostBookmarkService.findBookmarkedPostIds(user, postIds);
 
         List<LikesBookmarkStatusDto> likesBookmarkStatusDtos = new ArrayList<>();
-        for (PostRequestDto postRequestDto : postRequestDtos) {
-            likesBookmarkStatusDtos.add(checkLikeAndBookmarkStatus(user, postRequestDto.getPostId()));
+        for (Long postId : postIds) {
+            LikesBookmarkStatusDto likesBookmarkStatusDto = LikesBookmarkStatusDto.builder()
+                    .postId(postId).build();
+            likesBookmarkStatusDto.updateLikesStatus(likedPostIds.contains(postId));
+            likesBookmarkStatusDto.updateBookmarkStatus(bookmarkedPostIds.contains(postId));
+            likesBookmarkStatusDtos.add(likesBookmarkStatusDto);
         }
         return likesBookmarkStatusDtos;
     }
 
-    public LikesBookmarkStatusDto checkLikeAndBookmarkStatus(User user, long postId) {
-
-        LikesBookmarkStatusDto likesBookmarkStatusDto = LikesBookmarkStatusDto.builder()
-                .postId(postId).build();
-
-        if (userPostBookmarkService.isBookmarked(user, postId))
-            likesBookmarkStatusDto.updateBookmarkStatus(true);
-
-        if (userPostLikesService.isLiked(user, postId))
-            likesBookmarkStatusDto.updateLikesStatus(true);
-
-        return likesBookmarkStatusDto;
-    }
-
     @Transactional
     public boolean isWriter(User user, Post post) {
         if (post.getUser().getEmail().equals(user.getEmail()))
@@ -127,7 +127,7 @@ public class UserPostServiceImpl implements UserPostService {
     @Transactional(readOnly = true)
     public Page<PostInfoDto> getPostsByUser(Pageable pageable, User user) {
         Page<Post> posts = postRepository.findByUser(pageable, user);
-        return posts.map(PostInfoDto::toDto);
+        return postFeedAssembler.assemble(posts);
     }
 
 }
@@ -50,7 +50,7 @@ public class PostInfoDto {
     @Builder
     public PostInfoDto(Long postId, String content, Integer views, PostWriterInfoDto writerInfo,
                        List<String> documentUrls, List<String> hashTags, LocalDateTime createdDate,
-                       LocalDateTime modifiedDate) {
+                       LocalDateTime modifiedDate, Integer postCommentsCount) {
         this.postId = postId;
         this.writerInfo = writerInfo;
         this.content = content;
@@ -59,12 +59,32 @@ public class PostInfoDto {
         this.documentUrls = documentUrls;
         this.createdDate = createdDate;
         this.modifiedDate = modifiedDate;
+        this.postCommentsCount = postCommentsCount;
     }
 
     public void updatePostCommentCount(Integer postCommentsCount) {
         this.postCommentsCount = postCommentsCount;
     }
 
+    public void updateViews(Integer views) {
+        this.views = views;
+    }
+
+    // 작성자, 해시태그, 첨부 이미지를 따로 한 번에 조회한 목록 조회용
+    public static PostInfoDto of(Post post, PostWriterInfoDto writerInfo, List<String> hashTags, List<String> documentUrls) {
+        return PostInfoDto.builder()
+                .postId(post.getId())
+                .writerInfo(writerInfo)
+                .content(post.getContent())
+                .views(post.getViews())
+                .hashTags(hashTags)
+                .documentUrls(documentUrls)
+                .createdDate(post.getCreatedDate())
+                .modifiedDate(post.getModifiedDate())
+                .postCommentsCount(post.getCommentCount())
+                .build();
+    }
+
     public static PostInfoDto toDto(Post post) {
 
         return PostInfoDto.builder()
@@ -76,6 +96,7 @@ public class PostInfoDto {
                 .documentUrls(post.getPostDocuments().stream().map(postDocument -> postDocument.getUrl()).collect(Collectors.toList()))
                 .createdDate(post.getCreatedDate())
                 .modifiedDate(post.getModifiedDate())
+                .postCommentsCount(post.getCommentCount())
                 .build();
     }
 }
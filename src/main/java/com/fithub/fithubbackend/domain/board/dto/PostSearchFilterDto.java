@@ -15,4 +15,7 @@ public class PostSearchFilterDto {
     @Schema(description = "검색 범위 (내용, 작성자, 해시태그)", example = "content")
     private String scope;
 
+    @Schema(description = "관련도 순 정렬 시 최신순, 좋아요 수도 함께 반영할지 여부 (기본 false)", example = "false")
+    private Boolean blend;
+
 }
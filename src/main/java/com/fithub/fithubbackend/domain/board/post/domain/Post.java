@@ -11,12 +11,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(columnList = "like_count, id"),
+        @Index(columnList = "comment_count, id")
+})
 public class Post extends BaseTimeEntity {
 
     @Id
@@ -25,9 +30,19 @@ public class Post extends BaseTimeEntity {
 
     private String content;
 
+    // 조회수, 좋아요 수, 댓글 수는 UPDATE 쿼리로만 증감 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
     @NotNull
+    @Column(updatable = false)
     private Integer views;
 
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     private User user;
 
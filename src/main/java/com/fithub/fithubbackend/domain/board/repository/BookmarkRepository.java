@@ -20,4 +20,10 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Page<Post> findPostsByUser(@Param("user") User user, Pageable pageable);
     void deleteByUser(User user);
 
+    @Query("select b.post.id from Bookmark b where b.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select b.post.id from Bookmark b where b.user.id = :userId and b.post.id in :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
 }
@@ -1,12 +1,27 @@
 package com.fithub.fithubbackend.domain.board.repository;
 
 import com.fithub.fithubbackend.domain.board.dto.PostSearchFilterDto;
+import com.fithub.fithubbackend.domain.board.dto.PostWriterInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface CustomPostRepository {
 
     Page<Post> searchPostsByKeyword(PostSearchFilterDto postSearchFilterDTO, Pageable pageable);
 
+    Page<Post> searchPostsByFullText(PostSearchFilterDto filter, Pageable pageable);
+
+    long addViews(Map<Long, Long> viewsByPostId);
+
+    Map<Long, PostWriterInfoDto> findWritersByUserIdIn(Collection<Long> userIds);
+
+    Map<Long, List<String>> findHashtagsByPostIdIn(Collection<Long> postIds);
+
+    Map<Long, List<String>> findDocumentUrlsByPostIdIn(Collection<Long> postIds);
+
 }
@@ -1,21 +1,29 @@
 package com.fithub.fithubbackend.domain.board.repository;
 
 import com.fithub.fithubbackend.domain.board.dto.PostSearchFilterDto;
+import com.fithub.fithubbackend.domain.board.dto.PostWriterInfoDto;
 import com.fithub.fithubbackend.domain.board.post.domain.Post;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import static com.fithub.fithubbackend.domain.board.post.domain.QPost.post;
-import static com.fithub.fithubbackend.domain.board.comment.domain.QComment.comment;
+import static com.fithub.fithubbackend.domain.board.post.domain.QPostDocument.postDocument;
+import static com.fithub.fithubbackend.domain.board.post.domain.QPostHashtag.postHashtag;
 import static com.fithub.fithubbackend.domain.user.domain.QUser.user;
+import static com.fithub.fithubbackend.global.domain.QDocument.document;
+import static com.fithub.fithubbackend.global.domain.QHashtag.hashtag;
 
 import java.util.*;
 
@@ -25,6 +33,14 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
 
     private JPAQueryFactory jpaQueryFactory;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 전문 검색 결과 개수는 이 값까지만 셈
+    private final int fullTextCountLimit = 1000;
+    private final double recencyWeight = 1.0;
+    private final double likesWeight = 0.5;
+
     public CustomPostRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
         this.jpaQueryFactory = jpaQueryFactory;
     }
@@ -44,6 +60,160 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         return new PageImpl<>(posts.getResults(), pageable, posts.getTotal());
     }
 
+    // 게시글마다 다른 증가량을 CASE로 묶어 한 번에 반영
+    @Override
+    @Transactional
+    public long addViews(Map<Long, Long> viewsByPostId) {
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Long> entry : viewsByPostId.entrySet()) {
+            int delta = Math.toIntExact(entry.getValue());
+            cases = cases == null
+                    ? new CaseBuilder().when(post.id.eq(entry.getKey())).then(delta)
+                    : cases.when(post.id.eq(entry.getKey())).then(delta);
+        }
+        if (cases == null) {
+            return 0;
+        }
+
+        return jpaQueryFactory.update(post)
+                .set(post.views, post.views.add(cases.otherwise(0)))
+                .where(post.id.in(viewsByPostId.keySet()))
+                .execute();
+    }
+
+    // 내용, 작성자 닉네임의 FULLTEXT 색인으로 검색. 정렬이 없거나 relevance면 관련도 순 (blend면 최신순, 좋아요 수도 반영)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Post> searchPostsByFullText(PostSearchFilterDto filter, Pageable pageable) {
+        String booleanQuery = toBooleanQuery(filter.getKeyword());
+        if (booleanQuery == null) {
+            return Page.empty(pageable);
+        }
+
+        String match = "writer".equals(filter.getScope())
+                ? "MATCH(u.nickname) AGAINST(:query IN BOOLEAN MODE)"
+                : "MATCH(p.content) AGAINST(:query IN BOOLEAN MODE)";
+        String from = "writer".equals(filter.getScope())
+                ? "FROM post p JOIN `user` u ON u.id = p.user_id WHERE " + match
+                : "FROM post p WHERE " + match;
+
+        String score = Boolean.TRUE.equals(filter.getBlend())
+                ? match + " + " + recencyWeight + " / (1 + TIMESTAMPDIFF(DAY, p.created_date, NOW()) / 7) + " + likesWeight + " * LN(1 + p.like_count)"
+                : match;
+
+        List<?> ids = entityManager.createNativeQuery("SELECT p.id " + from + " ORDER BY " + getFullTextOrder(pageable, score))
+                .setParameter("query", booleanQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        List<Long> postIds = ids.stream().map(id -> ((Number) id).longValue()).toList();
+
+        return PageableExecutionUtils.getPage(findPostsByIdIn(postIds), pageable, () -> ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM (SELECT 1 " + from + " LIMIT " + fullTextCountLimit + ") t")
+                .setParameter("query", booleanQuery)
+                .getSingleResult()).longValue());
+    }
+
+    // 단어마다 필수 조건 + 접두사 검색 (조사가 붙은 단어도 검색되도록)
+    private String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        StringJoiner query = new StringJoiner(" ");
+        for (String term : keyword.trim().split("\\s+")) {
+            String cleaned = term.replaceAll("[+\\-<>()~*\"@'`]", "");
+            if (!cleaned.isEmpty()) {
+                query.add("+" + cleaned + "*");
+            }
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    private String getFullTextOrder(Pageable pageable, String score) {
+        StringJoiner order = new StringJoiner(", ");
+        for (Sort.Order sortOrder : pageable.getSort()) {
+            String direction = sortOrder.getDirection().isAscending() ? " ASC" : " DESC";
+            switch (sortOrder.getProperty()) {
+                case "id" -> order.add("p.id" + direction);
+                case "likes" -> order.add("p.like_count" + direction);
+                case "comments" -> order.add("p.comment_count" + direction);
+                case "relevance" -> order.add(score + direction);
+            }
+        }
+        if (order.length() == 0) {
+            order.add(score + " DESC");
+        }
+        return order.add("p.id DESC").toString();
+    }
+
+    private List<Post> findPostsByIdIn(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Post> posts = new HashMap<>();
+        jpaQueryFactory.selectFrom(post).where(post.id.in(postIds)).fetch().forEach(p -> posts.put(p.getId(), p));
+        return postIds.stream().map(posts::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, PostWriterInfoDto> findWritersByUserIdIn(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, PostWriterInfoDto> writers = new HashMap<>();
+        jpaQueryFactory.select(user.id, user.nickname, user.email, document.url)
+                .from(user)
+                .leftJoin(user.profileImg, document)
+                .where(user.id.in(userIds))
+                .fetch()
+                .forEach(tuple -> writers.put(tuple.get(user.id), PostWriterInfoDto.builder()
+                        .id(tuple.get(user.id))
+                        .nickname(tuple.get(user.nickname))
+                        .email(tuple.get(user.email))
+                        .profileUrl(tuple.get(document.url))
+                        .build()));
+        return writers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findHashtagsByPostIdIn(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, List<String>> hashtags = new HashMap<>();
+        jpaQueryFactory.select(postHashtag.post.id, hashtag.content)
+                .from(postHashtag)
+                .join(postHashtag.hashtag, hashtag)
+                .where(postHashtag.post.id.in(postIds))
+                .orderBy(postHashtag.id.asc())
+                .fetch()
+                .forEach(tuple -> hashtags.computeIfAbsent(tuple.get(postHashtag.post.id), id -> new ArrayList<>()).add(tuple.get(hashtag.content)));
+        return hashtags;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findDocumentUrlsByPostIdIn(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, List<String>> documentUrls = new HashMap<>();
+        jpaQueryFactory.select(postDocument.post.id, postDocument.url)
+                .from(postDocument)
+                .where(postDocument.post.id.in(postIds))
+                .orderBy(postDocument.id.asc())
+                .fetch()
+                .forEach(tuple -> documentUrls.computeIfAbsent(tuple.get(postDocument.post.id), id -> new ArrayList<>()).add(tuple.get(postDocument.url)));
+        return documentUrls;
+    }
+
     private BooleanExpression scopeEq(PostSearchFilterDto filter) {
         if (filter.getKeyword() == null)
             return null;
@@ -69,17 +239,16 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                     orderSpecifiers.add(new OrderSpecifier<>(direction, post.id));
                     break;
                 case "likes":
-                    orderSpecifiers.add(new OrderSpecifier<>(direction, post.likes.size()));
+                    orderSpecifiers.add(new OrderSpecifier<>(direction, post.likeCount));
                     break;
                 case "comments":
-                    orderSpecifiers.add(
-                            new OrderSpecifier<>(direction,
-                                    JPAExpressions.select(comment.count())
-                                            .from(comment)
-                                            .where(comment.post.eq(post).and(comment.deleted.isNull()))));
+                    orderSpecifiers.add(new OrderSpecifier<>(direction, post.commentCount));
                     break;
             }
         }
+        if (orderSpecifiers.isEmpty()) {
+            orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, post.id));
+        }
         return orderSpecifiers;
     }
 
@@ -22,4 +22,10 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     @Query("select l.post from Likes l where l.user = :user")
     Page<Post> findPostsByUser(@Param("user") User user, Pageable pageable);
     void deleteByUser(User user);
+
+    @Query("select l.post.id from Likes l where l.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select l.post.id from Likes l where l.user.id = :userId and l.post.id in :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -5,6 +5,7 @@ import com.fithub.fithubbackend.domain.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,4 +19,26 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
     Post findByPostIdWithFetchJoin(@Param("postId") long postId);
 
     Page<Post> findByUser(Pageable pageable, User user);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :amount WHERE p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("amount") int amount);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :amount WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("amount") int amount);
+
+    // 회원 탈퇴로 좋아요가 한 번에 삭제되기 전에 호출
+    @Modifying
+    @Query(value = "UPDATE post p JOIN likes l ON l.post_id = p.id SET p.like_count = p.like_count - 1 WHERE l.user_id = :userId", nativeQuery = true)
+    int subtractLikeCountByUserId(@Param("userId") Long userId);
+
+    // 좋아요 수, 댓글 수를 원본 기준으로 다시 계산하고 달라진 게시글 수 반환
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM likes GROUP BY post_id) l ON l.post_id = p.id " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM comment WHERE deleted IS NULL GROUP BY post_id) c ON c.post_id = p.id " +
+            "SET p.like_count = COALESCE(l.cnt, 0), p.comment_count = COALESCE(c.cnt, 0) " +
+            "WHERE p.like_count <> COALESCE(l.cnt, 0) OR p.comment_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+    int recalculateCounts();
 }
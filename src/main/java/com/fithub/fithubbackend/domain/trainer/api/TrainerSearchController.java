@@ -39,14 +39,19 @@ public class TrainerSearchController {
         return ResponseEntity.ok(trainerSearchService.searchTrainers(dto, pageable));
     }
 
-    @Operation(summary = "트레이너 조회 시 트레이너의 트레이닝에 작성된 모든 리뷰 조회", parameters = {
-            @Parameter(name = "trainerId", description = "조회할 트레이너의 primary key(id)")
+    @Operation(summary = "트레이너 조회 시 트레이너의 트레이닝에 작성된 리뷰 조회, 최신순 커서 방식", parameters = {
+            @Parameter(name = "trainerId", description = "조회할 트레이너의 primary key(id)"),
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor. 첫 조회 때는 보내지 않음"),
+            @Parameter(name = "size", description = "조회할 후기 수 (기본 10, 최대 50)")
     }, responses = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "조회 개수가 1 미만이거나 50 초과", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
     })
     @GetMapping("/reviews")
-    public ResponseEntity<TrainerSearchAllReviewDto> getTrainerReviews (@RequestParam Long trainerId) {
-        return ResponseEntity.ok(trainerSearchService.searchTrainerReviews(trainerId));
+    public ResponseEntity<TrainerSearchAllReviewDto> getTrainerReviews (@RequestParam Long trainerId,
+                                                                        @RequestParam(required = false) Long cursor,
+                                                                        @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(trainerSearchService.searchTrainerReviews(trainerId, cursor, size));
     }
 
     @Operation(summary = "트레이너 상세 조회 시 프로필 조회", parameters = {
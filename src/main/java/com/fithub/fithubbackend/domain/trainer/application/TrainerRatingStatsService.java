@@ -0,0 +1,6 @@
+package com.fithub.fithubbackend.domain.trainer.application;
+
+public interface TrainerRatingStatsService {
+    int recalculate(long fencingToken);
+    boolean initializeIfEmpty(long fencingToken);
+}
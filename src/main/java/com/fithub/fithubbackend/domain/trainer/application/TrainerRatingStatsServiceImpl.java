@@ -0,0 +1,78 @@
+package com.fithub.fithubbackend.domain.trainer.application;
+
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRatingStatsRepository;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 트레이너 평점 집계를 후기 원본 기준으로 다시 계산
+// 테이블을 비우고 다시 채우면 한 트랜잭션이 모든 집계 행을 잠가 후기 작성과 교착 상태가 생기므로 트레이너 batchSize명씩 덮어씀
+@Service
+@RequiredArgsConstructor
+public class TrainerRatingStatsServiceImpl implements TrainerRatingStatsService {
+
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final int batchSize = 200;
+    private final String recalculateWatermark = "trainer-rating-stats";
+
+    private TransactionTemplate batchTransaction;
+
+    @PostConstruct
+    public void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int recalculate(long fencingToken) {
+        int trainers = 0;
+        long afterId = 0;
+        List<Long> trainerIds;
+        do {
+            trainerIds = trainerRatingStatsRepository.findTrainerIdsAfter(afterId, batchSize);
+            if (trainerIds.isEmpty()) {
+                break;
+            }
+
+            // lease가 만료된 뒤 다른 서버가 재계산을 시작했으면 중단
+            List<Long> batch = trainerIds;
+            Boolean fenced = batchTransaction.execute(status -> {
+                if (!scheduleWatermarkRepository.fence(recalculateWatermark, fencingToken)) {
+                    return true;
+                }
+                trainerRatingStatsRepository.upsertStatsByTrainerIdIn(batch);
+                trainerRatingStatsRepository.resetStatsWithoutReviewsByTrainerIdIn(batch);
+                return false;
+            });
+            if (Boolean.TRUE.equals(fenced)) {
+                return trainers;
+            }
+            trainers += batch.size();
+            afterId = batch.get(batch.size() - 1);
+        } while (trainerIds.size() == batchSize);
+
+        batchTransaction.executeWithoutResult(status -> {
+            if (scheduleWatermarkRepository.fence(recalculateWatermark, fencingToken)) {
+                trainerRatingStatsRepository.deleteStatsOfRemovedTrainers();
+            }
+        });
+        return trainers;
+    }
+
+    // 배포 직후 집계가 비어 있으면 추천, 후기 헤더가 비지 않도록 바로 채움
+    @Override
+    public boolean initializeIfEmpty(long fencingToken) {
+        if (trainerRatingStatsRepository.count() > 0) {
+            return false;
+        }
+        recalculate(fencingToken);
+        return true;
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.data.domain.Pageable;
 public interface TrainerSearchService {
     Page<TrainerOutlineDto> searchTrainers(TrainerSearchFilterDto dto, Pageable pageable);
 
-    TrainerSearchAllReviewDto searchTrainerReviews(Long trainerId);
+    TrainerSearchAllReviewDto searchTrainerReviews(Long trainerId, Long cursor, int size);
 
     TrainerSearchAllLicenseDto searchTrainerLicenses(Long trainerId);
 
@@ -1,16 +1,13 @@
 package com.fithub.fithubbackend.domain.trainer.application;
 
-import com.fithub.fithubbackend.domain.Training.domain.Training;
-import com.fithub.fithubbackend.domain.Training.domain.TrainingReview;
-import com.fithub.fithubbackend.domain.Training.dto.review.UsersTrainingReviewDto;
-import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
-import com.fithub.fithubbackend.domain.Training.repository.TrainingReviewRepository;
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
 import com.fithub.fithubbackend.domain.trainer.domain.TrainerCareer;
 import com.fithub.fithubbackend.domain.trainer.domain.TrainerLicenseImg;
+import com.fithub.fithubbackend.domain.trainer.domain.TrainerRatingStats;
 import com.fithub.fithubbackend.domain.trainer.dto.*;
 import com.fithub.fithubbackend.domain.trainer.repository.TrainerCareerRepository;
 import com.fithub.fithubbackend.domain.trainer.repository.TrainerLicenseImgRepository;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRatingStatsRepository;
 import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
 import com.fithub.fithubbackend.global.exception.CustomException;
 import com.fithub.fithubbackend.global.exception.ErrorCode;
@@ -21,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,11 +27,12 @@ import java.util.Optional;
 public class TrainerSearchServiceImpl implements TrainerSearchService {
 
     private final TrainerRepository trainerRepository;
-    private final TrainingRepository trainingRepository;
-    private final TrainingReviewRepository reviewRepository;
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
     private final TrainerLicenseImgRepository trainerLicenseImgRepository;
     private final TrainerCareerRepository trainerCareerRepository;
 
+    private final int maxReviewSize = 50;
+
     @Override
     @Transactional(readOnly = true)
     public Page<TrainerOutlineDto> searchTrainers(TrainerSearchFilterDto dto, Pageable pageable) {
@@ -44,28 +41,31 @@ public class TrainerSearchServiceImpl implements TrainerSearchService {
     }
 
     @Override
-    public TrainerSearchAllReviewDto searchTrainerReviews(Long trainerId) {
-        List<Training> trainingList = trainingRepository.findByTrainerId(trainerId);
-        List<Long> trainingIdList = trainingList.stream().mapToLong(Training::getId).boxed().toList();
-        List<UsersTrainingReviewDto> list = new ArrayList<>();
-
-        int reviewNum = 0;
-        int sum = 0;
-        for (Long id : trainingIdList) {
-            List<TrainingReview> trainingReviewList = reviewRepository.findByLockedFalseAndTrainingId(id);
-            reviewNum += trainingReviewList.size();
-            for (TrainingReview r : trainingReviewList) {
-                list.add(UsersTrainingReviewDto.toDto(r));
-                sum += r.getStar();
-            }
+    @Transactional(readOnly = true)
+    public TrainerSearchAllReviewDto searchTrainerReviews(Long trainerId, Long cursor, int size) {
+        if (size <= 0 || size > maxReviewSize) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "조회 개수는 1 이상 " + maxReviewSize + " 이하로 지정해야 합니다.");
         }
 
-        list.sort(Comparator.comparing(UsersTrainingReviewDto::getCreatedDate, Comparator.reverseOrder()));
+        // 다음 목록이 있는지 확인하기 위해 하나 더 조회
+        List<TrainerReviewDto> reviews = trainerRepository.findReviewsByTrainerId(trainerId, cursor, size + 1);
+        boolean hasNext = reviews.size() > size;
+        if (hasNext) {
+            reviews = reviews.subList(0, size);
+        }
+
+        // 후기 수, 평균, 별점 분포는 후기 변경 시 갱신되는 집계 사용
+        Optional<TrainerRatingStats> stats = trainerRatingStatsRepository.findById(trainerId);
+        long reviewNum = stats.map(TrainerRatingStats::getReviewCount).orElse(0L);
+
         return TrainerSearchAllReviewDto.builder()
                 .trainerId(trainerId)
                 .reviewNum(reviewNum)
-                .average((double)sum / reviewNum)
-                .list(list)
+                .average(reviewNum > 0 ? stats.get().getRating() : 0.0)
+                .starCounts(stats.map(TrainerRatingStats::getStarCounts).orElse(List.of(0L, 0L, 0L, 0L, 0L)))
+                .list(reviews)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? reviews.get(reviews.size() - 1).getReviewId() : null)
                 .build();
     }
 
@@ -1,6 +1,7 @@
 package com.fithub.fithubbackend.domain.trainer.application;
 
 import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingUpdateEvent;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
 import com.fithub.fithubbackend.domain.trainer.domain.TrainerCareer;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -39,6 +41,8 @@ public class TrainerServiceImpl implements TrainerService {
 
     private final AwsS3Uploader s3Uploader;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public TrainerSpecDto getTrainersSpec(Long userId) {
         Trainer trainer = findTrainerByUserId(userId);
@@ -139,6 +143,7 @@ public class TrainerServiceImpl implements TrainerService {
         List<Training> trainingList = trainingRepository.findByDeletedFalseAndClosedFalseAndTrainerId(trainerId);
         for (Training training : trainingList) {
             training.updateAddress(trainerCareer);
+            eventPublisher.publishEvent(new TrainingUpdateEvent(training.getId()));
         }
     }
 
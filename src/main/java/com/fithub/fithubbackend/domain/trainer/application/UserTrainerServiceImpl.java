@@ -4,28 +4,32 @@ import com.fithub.fithubbackend.domain.Training.dto.Location;
 import com.fithub.fithubbackend.domain.Training.enums.Direction;
 import com.fithub.fithubbackend.domain.trainer.dto.TrainerRecommendationDto;
 import com.fithub.fithubbackend.domain.trainer.dto.TrainerRecommendationOutlineDto;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRatingStatsRepository;
 import com.fithub.fithubbackend.domain.user.domain.User;
 import com.fithub.fithubbackend.domain.user.domain.UserInterest;
 import com.fithub.fithubbackend.domain.user.enums.Status;
 import com.fithub.fithubbackend.domain.user.repository.UserInterestRepository;
 import com.fithub.fithubbackend.global.common.Category;
 import com.fithub.fithubbackend.global.util.GeometryUtil;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserTrainerServiceImpl implements UserTrainerService {
 
     private final UserInterestRepository userInterestRepository;
-    private final EntityManager entityManager;
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
+
+    private final double minRating = 4.0;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,9 +47,13 @@ public class UserTrainerServiceImpl implements UserTrainerService {
     }
 
     private void updateTrainerInterests(List<TrainerRecommendationDto> dtoList) {
+        if (dtoList.isEmpty()) return;
+
+        Map<Long, List<Category>> interestMap = userInterestRepository.findByUserIdIn(dtoList.stream().map(TrainerRecommendationDto::getUserId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ui -> ui.getUser().getId(), Collectors.mapping(UserInterest::getInterest, Collectors.toList())));
         for (TrainerRecommendationDto dto : dtoList) {
-            List<Category> result = userInterestRepository.findByUserId(dto.getUserId()).stream().map(UserInterest::getInterest).toList();
-            dto.updateTrainerInterests(result);
+            dto.updateTrainerInterests(interestMap.getOrDefault(dto.getUserId(), new ArrayList<>()));
         }
     }
 
@@ -54,7 +62,8 @@ public class UserTrainerServiceImpl implements UserTrainerService {
         Location southWest = GeometryUtil.calculate(location.getLatitude(), location.getLongitude(), 2.0, Direction.SOUTHWEST.getBearing());
 
         return String.format(
-                "'LINESTRING(%f %f, %f %f)'",
+                Locale.ROOT,
+                "LINESTRING(%f %f, %f %f)",
                 northEast.getLongitude(), northEast.getLatitude(), southWest.getLongitude(), southWest.getLatitude()
         );
     }
@@ -69,36 +78,21 @@ public class UserTrainerServiceImpl implements UserTrainerService {
     }
 
     private List<TrainerRecommendationDto> findTrainersByLocationAndInterestAndRating(String pointFormat, Category interest, int size) {
-        Query query = entityManager.createNativeQuery(
-                "SELECT t.id, t.address, t.name, t.profile_url, t.user_id, avg_tr.rating, avg_tr.review_count " +
-                        "FROM trainer AS t INNER JOIN user AS u ON t.user_id = u.id " +
-                        "INNER JOIN  " +
-                        "(SELECT trainer.id, COALESCE(AVG(tr.star), 0) AS rating, COUNT(tr.star) AS review_count " +
-                        "FROM training_review AS tr " +
-                        "INNER JOIN training ON tr.training_id = training.id " +
-                        "INNER JOIN trainer ON training.trainer_id = trainer.id " +
-                        "GROUP by trainer.id HAVING rating >= 4.0 " +
-                        ") AS avg_tr ON t.id = avg_tr.id " +
-                        "WHERE u.id IN ( SELECT ui.user_id FROM user_interest ui WHERE ui.interest = '"+ interest + "') " +
-                        "AND MBRContains(ST_LINESTRINGFROMTEXT(" + pointFormat + "), t.point) " +
-                        "AND u.status != '" + Status.DELETE + "' " +
-                        "ORDER BY avg_tr.review_count DESC LIMIT " + size
-        );
-
-        List<Object[]> queryResultList = query.getResultList();
+        List<Object[]> queryResultList = trainerRatingStatsRepository.findRecommendations(
+                pointFormat, interest.name(), Status.DELETE.name(), minRating, size);
 
         List<TrainerRecommendationDto> dtoList = new ArrayList<>();
         for (Object[] result : queryResultList) {
             TrainerRecommendationDto dto = TrainerRecommendationDto.builder()
-                    .trainerId((long) result[0])
+                    .trainerId(((Number) result[0]).longValue())
                     .address((String) result[1])
                     .name((String) result[2])
                     .profileUrl((String) result[3])
-                    .userId((long) result[4])
-                    .rating(Double.parseDouble(String.valueOf(result[5])))
-                    .totalReviews((Long) result[6]).build();
+                    .userId(((Number) result[4]).longValue())
+                    .rating(((Number) result[5]).doubleValue())
+                    .totalReviews(((Number) result[6]).longValue()).build();
             dtoList.add(dto);
         }
         return dtoList;
     }
-}
\ No newline at end of file
+}
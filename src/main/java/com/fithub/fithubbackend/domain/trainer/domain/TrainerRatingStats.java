@@ -0,0 +1,40 @@
+package com.fithub.fithubbackend.domain.trainer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.util.List;
+
+// 트레이너별 공개 후기 집계. 후기 작성, 수정, 삭제, 잠금 시 TrainerRatingStatsRepository에서 바로 갱신
+@Entity
+@Table(indexes = @Index(columnList = "review_count, rating"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrainerRatingStats {
+
+    @Id
+    private Long trainerId;
+
+    @Comment("잠기지 않은 후기 수")
+    private long reviewCount;
+
+    @Comment("잠기지 않은 후기 별점 합")
+    private long starSum;
+
+    @Comment("starSum / reviewCount")
+    private double rating;
+
+    @Comment("별점별 후기 수")
+    private long star1Count;
+    private long star2Count;
+    private long star3Count;
+    private long star4Count;
+    private long star5Count;
+
+    public List<Long> getStarCounts() {
+        return List.of(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
+}
@@ -0,0 +1,50 @@
+package com.fithub.fithubbackend.domain.trainer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fithub.fithubbackend.domain.user.dto.UserNicknameAndProfileDto;
+import com.querydsl.core.annotations.QueryProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "트레이너 상세 조회에서 후기 리스트 조회 시에 사용하는 dto - 후기 남긴 사용자 정보 포함")
+public class TrainerReviewDto {
+
+    private Long reviewId;
+    private Long trainingId;
+    private String trainingTitle;
+
+    private UserNicknameAndProfileDto userInfo;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime reserveDateTime;
+
+    private String content;
+    private int star;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime createdDate;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDateTime modifiedDate;
+
+    @QueryProjection
+    public TrainerReviewDto(Long reviewId, Long trainingId, String trainingTitle,
+                            Long userId, String nickname, String profileUrl,
+                            LocalDateTime reserveDateTime, String content, int star,
+                            LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.reviewId = reviewId;
+        this.trainingId = trainingId;
+        this.trainingTitle = trainingTitle;
+        this.userInfo = new UserNicknameAndProfileDto(userId, nickname, profileUrl);
+        this.reserveDateTime = reserveDateTime;
+        this.content = content;
+        this.star = star;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+}
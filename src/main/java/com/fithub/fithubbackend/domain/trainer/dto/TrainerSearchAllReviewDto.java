@@ -1,6 +1,6 @@
 package com.fithub.fithubbackend.domain.trainer.dto;
 
-import com.fithub.fithubbackend.domain.Training.dto.review.UsersTrainingReviewDto;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,15 +14,27 @@ public class TrainerSearchAllReviewDto {
     private Long trainerId;
 
     private Double average;
-    private int reviewNum;
+    private long reviewNum;
 
-    private List<UsersTrainingReviewDto> usersReviewList;
+    @Schema(description = "별점 1 ~ 5점 후기 수")
+    private List<Long> starCounts;
+
+    private List<TrainerReviewDto> usersReviewList;
+
+    @Schema(description = "다음 후기 조회 시 cursor로 보낼 값. 마지막 목록이면 null")
+    private Long nextCursor;
+
+    private boolean hasNext;
 
     @Builder
-    public TrainerSearchAllReviewDto(Long trainerId, Double average, int reviewNum, List<UsersTrainingReviewDto> list) {
+    public TrainerSearchAllReviewDto(Long trainerId, Double average, long reviewNum, List<Long> starCounts,
+                                     List<TrainerReviewDto> list, Long nextCursor, boolean hasNext) {
         this.trainerId = trainerId;
         this.average = average;
         this.reviewNum = reviewNum;
+        this.starCounts = starCounts;
         this.usersReviewList = list;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
     }
 }
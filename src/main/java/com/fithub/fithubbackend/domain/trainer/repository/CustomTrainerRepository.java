@@ -1,11 +1,15 @@
 package com.fithub.fithubbackend.domain.trainer.repository;
 
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.dto.TrainerReviewDto;
 import com.fithub.fithubbackend.domain.trainer.dto.TrainerSearchFilterDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CustomTrainerRepository {
     Page<Trainer> searchTrainers(TrainerSearchFilterDto dto, Pageable pageable);
+    List<TrainerReviewDto> findReviewsByTrainerId(Long trainerId, Long cursor, int limit);
 
 }
@@ -1,6 +1,8 @@
 package com.fithub.fithubbackend.domain.trainer.repository;
 
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.dto.QTrainerReviewDto;
+import com.fithub.fithubbackend.domain.trainer.dto.TrainerReviewDto;
 import com.fithub.fithubbackend.domain.trainer.dto.TrainerSearchFilterDto;
 import com.fithub.fithubbackend.domain.user.enums.Gender;
 import com.fithub.fithubbackend.domain.user.enums.Status;
@@ -20,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.fithub.fithubbackend.domain.Training.domain.QReserveInfo.reserveInfo;
+import static com.fithub.fithubbackend.domain.Training.domain.QTraining.training;
+import static com.fithub.fithubbackend.domain.Training.domain.QTrainingReview.trainingReview;
 import static com.fithub.fithubbackend.domain.trainer.domain.QTrainer.trainer;
 import static com.fithub.fithubbackend.domain.user.domain.QUser.user;
 
@@ -45,6 +50,36 @@ public class CustomTrainerRepositoryImpl implements CustomTrainerRepository {
         return new PageImpl<>(trainers.getResults(), pageable, trainers.getTotal());
     }
 
+    // 최신 후기 순. 후기, 트레이닝, 예약, 작성자를 조인해서 한 번에 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainerReviewDto> findReviewsByTrainerId(Long trainerId, Long cursor, int limit) {
+        return jpaQueryFactory.select(
+                        new QTrainerReviewDto(
+                                trainingReview.id,
+                                training.id,
+                                training.title,
+                                user.id,
+                                user.nickname,
+                                user.profileImg.url,
+                                reserveInfo.reserveDateTime,
+                                trainingReview.content,
+                                trainingReview.star,
+                                trainingReview.createdDate,
+                                trainingReview.modifiedDate
+                        )
+                ).from(trainingReview)
+                .join(trainingReview.training, training)
+                .join(trainingReview.reserveInfo, reserveInfo)
+                .join(trainingReview.user, user)
+                .where(training.trainer.id.eq(trainerId),
+                        trainingReview.locked.isFalse(),
+                        cursor != null ? trainingReview.id.lt(cursor) : null)
+                .orderBy(trainingReview.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     private BooleanExpression genderEq(Gender gender) {
         return gender != null ? trainer.user.gender.eq(gender) : null;
     }
@@ -0,0 +1,77 @@
+package com.fithub.fithubbackend.domain.trainer.repository;
+
+import com.fithub.fithubbackend.domain.trainer.domain.TrainerRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TrainerRatingStatsRepository extends JpaRepository<TrainerRatingStats, Long> {
+
+    // (:star = n)은 일치하면 1, 아니면 0
+    @Modifying
+    @Query(value = "INSERT INTO trainer_rating_stats (trainer_id, review_count, star_sum, rating, star1count, star2count, star3count, star4count, star5count) " +
+            "VALUES (:trainerId, 1, :star, :star, (:star = 1), (:star = 2), (:star = 3), (:star = 4), (:star = 5)) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + 1, star_sum = star_sum + :star, rating = star_sum / review_count, " +
+            "star1count = star1count + (:star = 1), star2count = star2count + (:star = 2), star3count = star3count + (:star = 3), " +
+            "star4count = star4count + (:star = 4), star5count = star5count + (:star = 5)", nativeQuery = true)
+    void addReview(@Param("trainerId") Long trainerId, @Param("star") int star);
+
+    @Modifying
+    @Query(value = "UPDATE trainer_rating_stats SET star_sum = star_sum + :newStar - :oldStar, rating = star_sum / review_count, " +
+            "star1count = star1count + (:newStar = 1) - (:oldStar = 1), star2count = star2count + (:newStar = 2) - (:oldStar = 2), " +
+            "star3count = star3count + (:newStar = 3) - (:oldStar = 3), star4count = star4count + (:newStar = 4) - (:oldStar = 4), " +
+            "star5count = star5count + (:newStar = 5) - (:oldStar = 5) " +
+            "WHERE trainer_id = :trainerId AND review_count > 0", nativeQuery = true)
+    void changeStar(@Param("trainerId") Long trainerId, @Param("oldStar") int oldStar, @Param("newStar") int newStar);
+
+    @Modifying
+    @Query(value = "UPDATE trainer_rating_stats SET review_count = review_count - 1, star_sum = star_sum - :star, " +
+            "rating = IF(review_count = 0, 0, star_sum / review_count), " +
+            "star1count = star1count - (:star = 1), star2count = star2count - (:star = 2), star3count = star3count - (:star = 3), " +
+            "star4count = star4count - (:star = 4), star5count = star5count - (:star = 5) " +
+            "WHERE trainer_id = :trainerId AND review_count > 0", nativeQuery = true)
+    void removeReview(@Param("trainerId") Long trainerId, @Param("star") int star);
+
+    // 누락, 오차 보정용 재계산. 후기 변경과 오래 잠금이 겹치지 않도록 트레이너 몇 명씩 나눠서 덮어씀
+    @Query(value = "SELECT id FROM trainer WHERE id > :afterId ORDER BY id LIMIT :size", nativeQuery = true)
+    List<Long> findTrainerIdsAfter(@Param("afterId") long afterId, @Param("size") int size);
+
+    @Modifying
+    @Query(value = "INSERT INTO trainer_rating_stats (trainer_id, review_count, star_sum, rating, star1count, star2count, star3count, star4count, star5count) " +
+            "SELECT t.trainer_id, COUNT(*), SUM(tr.star), AVG(tr.star), " +
+            "SUM(tr.star = 1), SUM(tr.star = 2), SUM(tr.star = 3), SUM(tr.star = 4), SUM(tr.star = 5) " +
+            "FROM training_review tr INNER JOIN training t ON tr.training_id = t.id " +
+            "WHERE tr.locked = false AND t.trainer_id IN (:trainerIds) GROUP BY t.trainer_id " +
+            "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), star_sum = VALUES(star_sum), rating = VALUES(rating), " +
+            "star1count = VALUES(star1count), star2count = VALUES(star2count), star3count = VALUES(star3count), " +
+            "star4count = VALUES(star4count), star5count = VALUES(star5count)", nativeQuery = true)
+    int upsertStatsByTrainerIdIn(@Param("trainerIds") List<Long> trainerIds);
+
+    // 공개 후기가 모두 없어진 트레이너의 집계를 0으로
+    @Modifying
+    @Query(value = "UPDATE trainer_rating_stats s SET s.review_count = 0, s.star_sum = 0, s.rating = 0, " +
+            "s.star1count = 0, s.star2count = 0, s.star3count = 0, s.star4count = 0, s.star5count = 0 " +
+            "WHERE s.trainer_id IN (:trainerIds) AND s.review_count <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM training_review tr INNER JOIN training t ON tr.training_id = t.id WHERE t.trainer_id = s.trainer_id AND tr.locked = false)", nativeQuery = true)
+    int resetStatsWithoutReviewsByTrainerIdIn(@Param("trainerIds") List<Long> trainerIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM trainer_rating_stats WHERE trainer_id NOT IN (SELECT id FROM trainer)", nativeQuery = true)
+    int deleteStatsOfRemovedTrainers();
+
+    @Query(value = "SELECT t.id, t.address, t.name, t.profile_url, t.user_id, s.rating, s.review_count " +
+            "FROM trainer_rating_stats s " +
+            "INNER JOIN trainer t ON s.trainer_id = t.id " +
+            "INNER JOIN user u ON t.user_id = u.id " +
+            "WHERE s.review_count > 0 AND s.rating >= :minRating " +
+            "AND MBRContains(ST_LINESTRINGFROMTEXT(:lineString), t.point) " +
+            "AND u.status != :deletedStatus " +
+            "AND EXISTS (SELECT 1 FROM user_interest ui WHERE ui.user_id = u.id AND ui.interest = :interest) " +
+            "ORDER BY s.review_count DESC LIMIT :size", nativeQuery = true)
+    List<Object[]> findRecommendations(@Param("lineString") String lineString, @Param("interest") String interest,
+                                       @Param("deletedStatus") String deletedStatus, @Param("minRating") double minRating,
+                                       @Param("size") int size);
+}
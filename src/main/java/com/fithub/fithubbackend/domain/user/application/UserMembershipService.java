@@ -0,0 +1,15 @@
+package com.fithub.fithubbackend.domain.user.application;
+
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface UserMembershipService {
+    Set<Long> findMembers(MembershipType type, Long userId, Collection<Long> targetIds);
+    boolean isMember(MembershipType type, Long userId, Long targetId);
+
+    void add(MembershipType type, Long userId, Long targetId);
+    void remove(MembershipType type, Long userId, Long targetId);
+    void evict(Long userId);
+}
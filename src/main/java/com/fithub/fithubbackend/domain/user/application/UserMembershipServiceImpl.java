@@ -0,0 +1,164 @@
+package com.fithub.fithubbackend.domain.user.application;
+
+import com.fithub.fithubbackend.domain.Training.repository.TrainingLikesRepository;
+import com.fithub.fithubbackend.domain.board.repository.BookmarkRepository;
+import com.fithub.fithubbackend.domain.board.repository.LikesRepository;
+import com.fithub.fithubbackend.domain.user.enums.MembershipType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 회원별 좋아요, 찜, 북마크 대상 id를 Redis set에 두고 여러 id의 포함 여부를 한 번에 확인
+// set은 처음 조회할 때 DB에서 채우고, Redis를 사용할 수 없으면 DB에서 조회
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserMembershipServiceImpl implements UserMembershipService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final TrainingLikesRepository trainingLikesRepository;
+    private final LikesRepository likesRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    // 비어있는 set도 캐시되어 있음을 표시하기 위한 값
+    private final String emptyMarker = "-";
+    private final Duration setTime = Duration.ofDays(1);
+
+    // 변경할 때마다 version을 올려서, 변경 전에 DB를 읽은 warm이 나중에 set을 만들지 못하게 함
+    // set이 캐시되어 있을 때만 변경. 없으면 다음 조회 때 DB에서 채움
+    private final RedisScript<Long> addScript = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[2]) " +
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('sadd', KEYS[1], ARGV[1]) else return 0 end", Long.class);
+    private final RedisScript<Long> removeScript = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[2]) " +
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('srem', KEYS[1], ARGV[1]) else return 0 end", Long.class);
+    private final RedisScript<Long> evictScript = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) return redis.call('del', KEYS[1])", Long.class);
+
+    // set이 없고 DB를 읽기 전의 version 그대로일 때만 set을 만들고 만료 시간까지 한 번에 설정
+    // 1: 생성, 0: 다른 요청이 이미 생성, -1: 읽는 동안 변경됨
+    private final RedisScript<Long> warmScript = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return -1 end " +
+            "for i = 3, #ARGV do redis.call('sadd', KEYS[1], ARGV[i]) end " +
+            "redis.call('pexpire', KEYS[1], ARGV[2]) return 1", Long.class);
+
+    @Override
+    public Set<Long> findMembers(MembershipType type, Long userId, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        try {
+            String key = key(type, userId);
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key)) && !warm(type, userId, key)) {
+                return findMembersFromDb(type, userId, targetIds);
+            }
+
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(targetIds));
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, ids.stream().map(String::valueOf).toArray());
+            if (result == null) {
+                return findMembersFromDb(type, userId, targetIds);
+            }
+            return ids.stream().filter(id -> Boolean.TRUE.equals(result.get(String.valueOf(id)))).collect(Collectors.toSet());
+        } catch (DataAccessException e) {
+            log.warn("회원 {} {} 조회 중 Redis 오류, DB에서 조회: {}", userId, type, e.getMessage());
+            return findMembersFromDb(type, userId, targetIds);
+        }
+    }
+
+    @Override
+    public boolean isMember(MembershipType type, Long userId, Long targetId) {
+        return findMembers(type, userId, List.of(targetId)).contains(targetId);
+    }
+
+    @Override
+    public void add(MembershipType type, Long userId, Long targetId) {
+        afterCommit(() -> redisTemplate.execute(addScript, List.of(key(type, userId), versionKey(type, userId)),
+                String.valueOf(targetId), String.valueOf(setTime.toMillis())));
+    }
+
+    @Override
+    public void remove(MembershipType type, Long userId, Long targetId) {
+        afterCommit(() -> redisTemplate.execute(removeScript, List.of(key(type, userId), versionKey(type, userId)),
+                String.valueOf(targetId), String.valueOf(setTime.toMillis())));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        afterCommit(() -> Arrays.stream(MembershipType.values()).forEach(type ->
+                redisTemplate.execute(evictScript, List.of(key(type, userId), versionKey(type, userId)), String.valueOf(setTime.toMillis()))));
+    }
+
+    private boolean warm(MembershipType type, Long userId, String key) {
+        String versionKey = versionKey(type, userId);
+        String version = redisTemplate.opsForValue().get(versionKey);
+
+        List<String> args = new ArrayList<>();
+        args.add(version == null ? "0" : version);
+        args.add(String.valueOf(setTime.toMillis()));
+        args.add(emptyMarker);
+        findAllFromDb(type, userId).forEach(id -> args.add(String.valueOf(id)));
+
+        Long result = redisTemplate.execute(warmScript, List.of(key, versionKey), args.toArray());
+        return result != null && result >= 0;
+    }
+
+    private List<Long> findAllFromDb(MembershipType type, Long userId) {
+        return switch (type) {
+            case TRAINING_LIKES -> trainingLikesRepository.findTrainingIdsByUserId(userId);
+            case POST_LIKES -> likesRepository.findPostIdsByUserId(userId);
+            case POST_BOOKMARK -> bookmarkRepository.findPostIdsByUserId(userId);
+        };
+    }
+
+    private Set<Long> findMembersFromDb(MembershipType type, Long userId, Collection<Long> targetIds) {
+        List<Long> ids = switch (type) {
+            case TRAINING_LIKES -> trainingLikesRepository.findTrainingIdsByUserIdAndTrainingIdIn(userId, targetIds);
+            case POST_LIKES -> likesRepository.findPostIdsByUserIdAndPostIdIn(userId, targetIds);
+            case POST_BOOKMARK -> bookmarkRepository.findPostIdsByUserIdAndPostIdIn(userId, targetIds);
+        };
+        return new HashSet<>(ids);
+    }
+
+    // 롤백된 변경이 캐시에 반영되지 않도록 커밋 후 반영
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                log.warn("좋아요, 북마크 캐시 갱신 실패: {}", e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+
+    private String key(MembershipType type, Long userId) {
+        return type.getKeyPrefix() + userId;
+    }
+
+    private String versionKey(MembershipType type, Long userId) {
+        return type.getKeyPrefix() + "version:" + userId;
+    }
+}
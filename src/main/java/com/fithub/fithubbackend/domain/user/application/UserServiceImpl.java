@@ -6,6 +6,7 @@ import com.fithub.fithubbackend.domain.Training.repository.TrainingLikesReposito
 import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
 import com.fithub.fithubbackend.domain.board.repository.BookmarkRepository;
 import com.fithub.fithubbackend.domain.board.repository.LikesRepository;
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
 import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
 import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
 import com.fithub.fithubbackend.domain.user.domain.ClosureReason;
@@ -52,6 +53,8 @@ public class UserServiceImpl implements UserService {
     private final TrainingLikesRepository trainingLikesRepository;
     private final ClosureReasonRepository closureReasonRepository;
     private final LikesRepository likesRepository;
+    private final PostRepository postRepository;
+    private final UserMembershipService userMembershipService;
     private final AwsS3Uploader awsS3Uploader;
 
     @Value("${default.image.address}")
@@ -186,8 +189,10 @@ public class UserServiceImpl implements UserService {
 
         user.deleteUser();
         bookmarkRepository.deleteByUser(user);
+        postRepository.subtractLikeCountByUserId(user.getId());
         likesRepository.deleteByUser(user);
         trainingLikesRepository.deleteByUser(user);
+        userMembershipService.evict(user.getId());
         userInterestRepository.deleteByUser(user);
 
     }
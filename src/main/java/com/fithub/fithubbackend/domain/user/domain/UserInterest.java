@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(columnList = "user_id, interest"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserInterest {
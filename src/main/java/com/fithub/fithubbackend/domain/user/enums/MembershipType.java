@@ -0,0 +1,17 @@
+package com.fithub.fithubbackend.domain.user.enums;
+
+import lombok.Getter;
+
+// 회원별로 좋아요, 찜, 북마크한 대상 id 집합의 종류
+@Getter
+public enum MembershipType {
+    TRAINING_LIKES("membership:training-likes:"),
+    POST_LIKES("membership:post-likes:"),
+    POST_BOOKMARK("membership:post-bookmark:");
+
+    private final String keyPrefix;
+
+    MembershipType(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 public interface UserInterestRepository extends JpaRepository<UserInterest, Long> {
     List<UserInterest> findByUser(User user);
     List<UserInterest> findByUserId(Long userId);
+    List<UserInterest> findByUserIdIn(List<Long> userIds);
     void deleteByUser(User user);
     @Modifying
     @Query("delete from UserInterest u where u.user = :user and u.interest in :interests")
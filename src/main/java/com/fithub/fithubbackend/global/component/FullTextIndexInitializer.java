@@ -0,0 +1,37 @@
+package com.fithub.fithubbackend.global.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// JPA로 만들 수 없는 FULLTEXT 색인을 서버 시작 시 생성 (이미 있으면 건너뜀)
+// MariaDB는 ngram 파서가 없으므로 기본 파서 사용. innodb_ft_min_token_size(기본 3)보다 짧은 단어가 있는 검색은 LIKE로 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<String> indexDdls = List.of(
+            "CREATE FULLTEXT INDEX IF NOT EXISTS ft_post_content ON post (content)",
+            "CREATE FULLTEXT INDEX IF NOT EXISTS ft_user_nickname ON `user` (nickname)"
+    );
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        for (String ddl : indexDdls) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (DataAccessException e) {
+                log.warn("FULLTEXT 색인 생성 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
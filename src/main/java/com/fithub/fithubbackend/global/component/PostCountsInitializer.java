@@ -0,0 +1,54 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// like_count, comment_count 컬럼이 추가된 뒤 처음 뜰 때 한 번만 기존 좋아요, 댓글 수로 채움
+// 기준 시각 행을 만든 서버만 계산하고, 계산이 실패하면 행도 롤백되어 다음 기동 때 다시 시도
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountsInitializer {
+
+    private final PostRepository postRepository;
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String backfillWatermark = "post-counts-backfill";
+
+    private TransactionTemplate backfillTransaction;
+
+    @PostConstruct
+    public void init() {
+        backfillTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Integer posts = backfillTransaction.execute(status -> {
+                if (scheduleWatermarkRepository.saveIfAbsent(backfillWatermark, LocalDateTime.now(ZoneId.of("Asia/Seoul"))) == 0) {
+                    return null;
+                }
+                return postRepository.recalculateCounts();
+            });
+            if (posts != null) {
+                log.info("게시글 좋아요, 댓글 수 초기 계산 완료: {}개", posts);
+            }
+        } catch (DataAccessException e) {
+            log.warn("게시글 좋아요, 댓글 수 초기 계산 실패: {}", e.getMessage());
+        }
+    }
+}
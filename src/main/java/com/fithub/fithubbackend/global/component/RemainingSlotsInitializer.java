@@ -0,0 +1,29 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.domain.Training.application.TrainingScheduleStateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+// 남은 시간 수의 기준 시각이 없으면(처음 배포) 지난 시간을 뺀 값으로 모든 트레이닝을 다시 계산. 이후에는 매시 스케줄러가 유지
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemainingSlotsInitializer {
+
+    private final TrainingScheduleStateService trainingScheduleStateService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (trainingScheduleStateService.initializeRemainingSlots()) {
+                log.info("트레이닝 남은 시간 수 초기 계산 완료");
+            }
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 남은 시간 수 초기 계산 실패: {}", e.getMessage());
+        }
+    }
+}
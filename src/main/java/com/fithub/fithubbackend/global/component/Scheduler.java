@@ -1,28 +1,37 @@
 package com.fithub.fithubbackend.global.component;
 
-import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
-import com.fithub.fithubbackend.domain.Training.domain.AvailableTime;
-import com.fithub.fithubbackend.domain.Training.domain.ReserveInfo;
-import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.application.PaymentService;
+import com.fithub.fithubbackend.domain.Training.application.ReservationHoldService;
+import com.fithub.fithubbackend.domain.Training.application.TrainingIndexListener;
+import com.fithub.fithubbackend.domain.Training.application.TrainingPopularityService;
+import com.fithub.fithubbackend.domain.Training.application.TrainingScheduleStateService;
 import com.fithub.fithubbackend.domain.Training.enums.ReserveStatus;
 import com.fithub.fithubbackend.domain.Training.repository.AvailableDateRepository;
-import com.fithub.fithubbackend.domain.Training.repository.AvailableTimeRepository;
 import com.fithub.fithubbackend.domain.Training.repository.ReserveInfoRepository;
 import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.domain.board.application.PostViewService;
+import com.fithub.fithubbackend.domain.board.repository.PostRepository;
+import com.fithub.fithubbackend.domain.trainer.application.TrainerRatingStatsService;
+import com.fithub.fithubbackend.global.domain.ScheduleWatermark;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Component
@@ -33,7 +42,30 @@ public class Scheduler {
     private final TrainingRepository trainingRepository;
     private final ReserveInfoRepository reserveInfoRepository;
     private final AvailableDateRepository availableDateRepository;
-    private final AvailableTimeRepository availableTimeRepository;
+    private final PostRepository postRepository;
+
+    private final PaymentService paymentService;
+    private final ReservationHoldService reservationHoldService;
+    private final TrainingScheduleStateService trainingScheduleStateService;
+
+    private final TrainingIndexListener trainingIndexListener;
+    private final TrainingPopularityService trainingPopularityService;
+    private final PostViewService postViewService;
+    private final TrainerRatingStatsService trainerRatingStatsService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    // 매시 작업의 lease 시간. 서버 교체를 확인하는 테스트에서는 짧게 설정
+    @Value("${scheduler.lease.hourly:10m}")
+    private Duration hourlyLeaseTime;
+    private final Duration holdLeaseTime = Duration.ofSeconds(50);
+
+    private final int holdBatchSize = 100;
+
+    private final String reservationStatusWatermark = "reservation-status";
 
     @Async
     @Scheduled(cron = "0 0 */1 * * *")
@@ -44,71 +76,118 @@ public class Scheduler {
         LocalDate date = nowDateTime.toLocalDate();
         LocalTime time = LocalTime.of(nowDateTime.getHour(), 0);
 
-        List<Training> openTrainingList =
-                trainingRepository.findByDeletedFalseAndClosedFalseAndStartDateLessThanEqualAndEndDateGreaterThanEqual(date, date);
-        for (Training training : openTrainingList) {
-            checkTraining(training, date, time);
-        }
+        schedulerLeaderLease.runIfLeader("training-sweep", hourlyLeaseTime, fencingToken -> closePassedTrainings(date, time, fencingToken));
     }
 
-    private void checkTraining(Training training, LocalDate date, LocalTime time) {
-        closeAvailableTimeAndDate(training, date, time);
-        closeTraining(training, date, time);
+    private void closePassedTrainings(LocalDate date, LocalTime time, long fencingToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // 예약되지 않은 채 지난 시간을 남은 시간 수에서 먼저 빼야 남은 시간이 없는 날짜, 트레이닝을 마감할 수 있음
+        int expiredTrainings = trainingScheduleStateService.expirePassedSlots(LocalDateTime.of(date, time), fencingToken);
+        int closedDates = availableDateRepository.closePastDates(date, time) + availableDateRepository.closeSoldOutDates();
+        int closedTrainings = trainingRepository.closeEndedTrainings(date, time) + trainingRepository.closeSoldOutTrainings();
+        sample.stop(meterRegistry.timer("scheduler.training.sweep"));
+
+        meterRegistry.counter("scheduler.training.sweep.rows", "target", "slot").increment(expiredTrainings);
+        meterRegistry.counter("scheduler.training.sweep.rows", "target", "date").increment(closedDates);
+        meterRegistry.counter("scheduler.training.sweep.rows", "target", "training").increment(closedTrainings);
+        log.info("[SCHEDULE] - 지난 시간 반영 트레이닝: {}, 마감 처리 날짜: {}, 트레이닝: {}", expiredTrainings, closedDates, closedTrainings);
     }
 
-    private void closeAvailableTimeAndDate(Training training, LocalDate date, LocalTime time) {
-        Optional<AvailableDate> today = availableDateRepository.findByTrainingIdAndDate(training.getId(), date);
-        today.ifPresent(availableDate -> {
-            closeTimeIfExists(availableDate.getId(), time);
-            closeDateIfTimeAllClosed(availableDate);
-        });
-    }
+    @Async
+    @Scheduled(cron = "0 0 */1 * * *")
+    @Transactional
+    public void changeReservationStatusToStart() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        log.info("[SCHEDULE] - changeReservationStatusToStart 실행: {}", now);
 
-    private void closeTimeIfExists(Long dateId, LocalTime time) {
-        Optional<AvailableTime> availableTime = availableTimeRepository.findByEnabledTrueAndAvailableDateIdAndTime(dateId, time);
-        availableTime.ifPresent(AvailableTime::closeTime);
+        LocalDateTime reserveTime = now.truncatedTo(ChronoUnit.HOURS);
+        schedulerLeaderLease.runIfLeader("reservation-status", hourlyLeaseTime, fencingToken -> changeReservationStatus(reserveTime, fencingToken));
     }
 
-    private void closeDateIfTimeAllClosed(AvailableDate date) {
-        if (!availableTimeRepository.existsByEnabledTrueAndAvailableDate(date)) {
-            date.closeDate();
+    private void changeReservationStatus(LocalDateTime reserveTime, long fencingToken) {
+        // 처음 실행할 때는 이번 시간만 처리. 배포 전에 지난 예약을 한꺼번에 진행 중으로 바꾸지 않음
+        ScheduleWatermark watermark = scheduleWatermarkRepository.findByName(reservationStatusWatermark)
+                .orElseGet(() -> ScheduleWatermark.builder().name(reservationStatusWatermark).processedDateTime(reserveTime.minusHours(1)).build());
+
+        // lease가 만료된 뒤 늦게 실행된 이전 leader는 처리하지 않음
+        if (watermark.isFencedBy(fencingToken)) {
+            log.warn("[SCHEDULE] - 만료된 lease로 예약 상태 변경 시도, fencing token: {}", fencingToken);
+            return;
         }
-    }
 
-    private void closeTraining(Training training, LocalDate date, LocalTime time) {
-        if (training.getEndDate().isEqual(date) && training.getEndHour().equals(time))
-            training.updateClosed(true);
+        // 마지막 처리 시각 이후 누락된 시간까지 한 번에 처리
+        LocalDateTime from = watermark.getProcessedDateTime();
+        if (!reserveTime.isAfter(from)) {
+            return;
+        }
+
+        availableDateRepository.subtractReservationCountByReserveDateTimeBetween(ReserveStatus.BEFORE, from, reserveTime);
+        int started = reserveInfoRepository.updateStatusByReserveDateTimeBetween(ReserveStatus.BEFORE, ReserveStatus.START, from, reserveTime);
+        int completed = reserveInfoRepository.updateStatusByReserveDateTimeBetween(ReserveStatus.START, ReserveStatus.COMPLETE, from.minusHours(1), reserveTime.minusHours(1));
+
+        watermark.updateProcessedDateTime(reserveTime, fencingToken);
+        scheduleWatermarkRepository.save(watermark);
+        log.info("[SCHEDULE] - 예약 상태 변경 {} ~ {}, 진행 중: {}, 완료: {}", from, reserveTime, started, completed);
     }
 
+    // 후기 변경 시 바로 갱신하는 트레이너 평점 집계를 원본 기준으로 다시 계산
+    @Scheduled(cron = "0 30 4 * * *")
+    public void recalculateTrainerRatingStats() {
+        schedulerLeaderLease.runIfLeader("trainer-rating-stats", hourlyLeaseTime, fencingToken -> {
+            int trainers = trainerRatingStatsService.recalculate(fencingToken);
+            log.info("[SCHEDULE] - 트레이너 평점 집계 재계산: {}명", trainers);
+        });
+    }
 
-    @Async
-    @Scheduled(cron = "0 0 */1 * * *")
+    // 좋아요, 댓글 변경 시 바로 증감하는 게시글의 좋아요 수, 댓글 수를 원본 기준으로 보정
+    @Scheduled(cron = "0 30 5 * * *")
     @Transactional
-    public void changeReservationStatusToStart() {
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        log.info("[SCHEDULE] - changeReservationStatusToStart 실행: {}", now);
-
-        LocalDateTime reserveTime = LocalDateTime.of(now.getYear(), now.getMonth(), now.getDayOfMonth(), now.getHour(), 0, 0);
-        changeReservationStatusToStart(reserveTime);
+    public void recalculatePostCounts() {
+        schedulerLeaderLease.runIfLeader("post-counts", hourlyLeaseTime, fencingToken -> {
+            if (!scheduleWatermarkRepository.fence("post-counts", fencingToken)) {
+                log.warn("[SCHEDULE] - 만료된 lease로 게시글 좋아요, 댓글 수 보정 시도, fencing token: {}", fencingToken);
+                return;
+            }
+            int posts = postRepository.recalculateCounts();
+            log.info("[SCHEDULE] - 게시글 좋아요, 댓글 수 보정: {}개", posts);
+        });
+    }
 
-        LocalDateTime timeToChangeComplete = reserveTime.minusHours(1);
-        changeReservationStatusToComplete(timeToChangeComplete);
+    // 반영되지 못한 찜, 예약 변경을 보정하고 인기 점수 기준 시각을 옮김
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuildTrainingPopularity() {
+        schedulerLeaderLease.runIfLeader("training-popularity", hourlyLeaseTime, trainingPopularityService::rebuild);
     }
 
-    private void changeReservationStatusToStart(LocalDateTime reserveTime) {
-        List<ReserveInfo> reserveInfoListStatusBefore = reserveInfoRepository.findByReserveDateTimeAndStatus(reserveTime, ReserveStatus.BEFORE);
-        updateReserveInfoStatus(reserveInfoListStatusBefore, ReserveStatus.START);
+    // 일괄 마감된 트레이닝, 유실된 변경 메시지를 반영하기 위해 서버마다 실행
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void rebuildTrainingIndexes() {
+        trainingIndexListener.rebuild();
     }
 
-    private void changeReservationStatusToComplete(LocalDateTime timeToChangeComplete) {
-        List<ReserveInfo> reserveInfoListToChangeComplete = reserveInfoRepository.findByReserveDateTimeAndStatus(timeToChangeComplete, ReserveStatus.START);
-        updateReserveInfoStatus(reserveInfoListToChangeComplete, ReserveStatus.COMPLETE);
+    // 조회수는 서버마다 메모리에 모으므로 서버마다 실행
+    @Scheduled(fixedDelay = 30000)
+    public void flushPostViews() {
+        postViewService.flush();
     }
 
-    private void updateReserveInfoStatus(List<ReserveInfo> reserveInfoList, ReserveStatus newStatus) {
-        for (ReserveInfo reserveInfo : reserveInfoList) {
-            reserveInfo.updateStatus(newStatus);
-        }
+    @Scheduled(fixedDelay = 60000)
+    public void releaseExpiredReservationHolds() {
+        schedulerLeaderLease.runIfLeader("reservation-hold", holdLeaseTime, this::expireReservationHolds);
     }
 
+    private void expireReservationHolds(long fencingToken) {
+        List<Long> expiredIds;
+        do {
+            expiredIds = reservationHoldService.findExpiredHolds(holdBatchSize);
+            if (!expiredIds.isEmpty()) {
+                int expired = paymentService.expireReservations(expiredIds, fencingToken);
+                if (expired < 0) {
+                    log.warn("[SCHEDULE] - 만료된 lease로 예약 만료 처리 시도, fencing token: {}", fencingToken);
+                    return;
+                }
+                log.info("[SCHEDULE] - 결제되지 않은 예약 {}건 만료", expired);
+            }
+        } while (expiredIds.size() == holdBatchSize);
+    }
 }
@@ -0,0 +1,53 @@
+package com.fithub.fithubbackend.global.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaderLease {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // lease를 잡은 서버만 fencing token을 올림. 잡지 못하면 0
+    private final RedisScript<Long> acquireScript = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return redis.call('incr', KEYS[2]) else return 0 end", Long.class);
+
+    // lease를 잡은 서버에서만 task 실행. 작업이 끝나도 lease는 반납하지 않고 leaseTime이 지나야 풀림
+    // 시계가 늦은 서버가 작업이 끝난 뒤에 같은 주기의 작업을 다시 실행하지 않도록 leaseTime은 작업 주기보다 짧고 시계 오차보다 길게 설정
+    // lease가 만료된 뒤에도 실행 중인 이전 leader는 저장소에서 fencing token으로 막음
+    public void runIfLeader(String jobName, Duration leaseTime, LongConsumer task) {
+        Long fencingToken = redisTemplate.execute(acquireScript, List.of(leaseKey(jobName), fenceKey(jobName)),
+                instanceId, String.valueOf(leaseTime.toMillis()));
+        if (fencingToken == null || fencingToken == 0) {
+            meterRegistry.counter("scheduler.lease", "job", jobName, "result", "skipped").increment();
+            log.info("[SCHEDULE] - {} 다른 서버에서 실행 중", jobName);
+            return;
+        }
+
+        meterRegistry.counter("scheduler.lease", "job", jobName, "result", "acquired").increment();
+        task.accept(fencingToken);
+    }
+
+    private String leaseKey(String jobName) {
+        return "scheduler:lease:" + jobName;
+    }
+
+    private String fenceKey(String jobName) {
+        return "scheduler:fence:" + jobName;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.domain.trainer.application.TrainerRatingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 집계 테이블이 비어 있으면(처음 배포) 기존 후기로 채움. 이후에는 후기 변경 시 갱신, 새벽 스케줄러가 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerRatingStatsInitializer {
+
+    private final TrainerRatingStatsService trainerRatingStatsService;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    private final Duration leaseTime = Duration.ofMinutes(10);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            schedulerLeaderLease.runIfLeader("trainer-rating-stats", leaseTime, fencingToken -> {
+                if (trainerRatingStatsService.initializeIfEmpty(fencingToken)) {
+                    log.info("트레이너 평점 집계 초기 계산 완료");
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("트레이너 평점 집계 초기 계산 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.domain.Training.application.TrainingScheduleStateService;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+// 날짜마다 AvailableDate, 시간마다 AvailableTime을 만들던 트레이닝을 예약 규칙 + 예약된 시간만 저장하는 방식으로 한 번만 옮김
+// 1. 규칙 범위 안인데 날짜 행이 없던 날짜는 예약 불가 날짜로 저장
+// 2. 예약되지 않은 열린 시간 행, 빈 날짜 행 삭제
+// 3. 날짜별 진행 전 예약 수, 남은 시간 수 다시 계산
+// 기준 시각 행을 만든 서버만 옮기고, 실패하면 행도 롤백되어 다음 기동 때 다시 시도
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainingSlotMigrationInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrainingRepository trainingRepository;
+    private final TrainingScheduleStateService trainingScheduleStateService;
+    private final ScheduleWatermarkRepository scheduleWatermarkRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String migrationWatermark = "training-slot-migration";
+
+    private TransactionTemplate migrationTransaction;
+
+    @PostConstruct
+    public void init() {
+        migrationTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // 남은 시간 수 초기 계산보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer trainings = migrationTransaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+                if (scheduleWatermarkRepository.saveIfAbsent(migrationWatermark, now) == 0) {
+                    return null;
+                }
+
+                int migrated = saveUnableDates();
+                int deletedTimes = jdbcTemplate.update("DELETE at FROM available_time at LEFT JOIN reserve_info r ON r.available_time_id = at.id " +
+                        "WHERE (at.enabled = true OR at.deleted = true) AND r.id IS NULL");
+                int deletedDates = jdbcTemplate.update("DELETE d FROM available_date d " +
+                        "LEFT JOIN available_time at ON at.available_date_id = d.id LEFT JOIN reserve_info r ON r.available_date_id = d.id " +
+                        "WHERE at.id IS NULL AND r.id IS NULL");
+                jdbcTemplate.update("UPDATE available_date d SET d.reservation_count = " +
+                        "(SELECT COUNT(*) FROM reserve_info r WHERE r.available_date_id = d.id AND r.status = 'BEFORE')");
+
+                trainingRepository.findAllNotEndedFetchUnableDates(now.toLocalDate()).forEach(trainingScheduleStateService::refreshRemainingSlots);
+                log.info("트레이닝 예약 시간 삭제: 시간 {}개, 날짜 {}개", deletedTimes, deletedDates);
+                return migrated;
+            });
+            if (trainings != null) {
+                log.info("트레이닝 예약 규칙 변환 완료: {}개", trainings);
+            }
+        } catch (DataAccessException e) {
+            log.warn("트레이닝 예약 규칙 변환 실패: {}", e.getMessage());
+        }
+    }
+
+    // 열린 시간 행이 남아 있는 트레이닝(이전 방식)만 대상
+    private int saveUnableDates() {
+        Map<Long, LocalDate[]> ranges = new HashMap<>();
+        jdbcTemplate.query("SELECT DISTINCT t.id, t.start_date, t.end_date FROM training t " +
+                "JOIN available_date d ON d.training_id = t.id JOIN available_time at ON at.available_date_id = d.id " +
+                "WHERE at.enabled = true AND at.deleted = false AND d.deleted = false " +
+                "AND NOT EXISTS (SELECT 1 FROM training_unable_date u WHERE u.training_id = t.id)", rs -> {
+            ranges.put(rs.getLong(1), new LocalDate[]{rs.getDate(2).toLocalDate(), rs.getDate(3).toLocalDate()});
+        });
+        if (ranges.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Set<LocalDate>> savedDates = new HashMap<>();
+        jdbcTemplate.query("SELECT d.training_id, d.date FROM available_date d WHERE d.deleted = false", rs -> {
+            long trainingId = rs.getLong(1);
+            if (ranges.containsKey(trainingId)) {
+                savedDates.computeIfAbsent(trainingId, id -> new HashSet<>()).add(rs.getDate(2).toLocalDate());
+            }
+        });
+
+        List<Object[]> unableDates = new ArrayList<>();
+        ranges.forEach((trainingId, range) -> range[0].datesUntil(range[1].plusDays(1))
+                .filter(date -> !savedDates.getOrDefault(trainingId, Collections.emptySet()).contains(date))
+                .forEach(date -> unableDates.add(new Object[]{trainingId, Date.valueOf(date)})));
+        jdbcTemplate.batchUpdate("INSERT INTO training_unable_date (training_id, unable_date) VALUES (?, ?)", unableDates);
+        return ranges.size();
+    }
+}
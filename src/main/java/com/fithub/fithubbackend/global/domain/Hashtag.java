@@ -7,9 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.text.Normalizer;
+import java.util.Locale;
+
 @Entity
 @Getter
-@Table(name = "hashtag")
+@Table(name = "hashtag", uniqueConstraints = @UniqueConstraint(columnNames = "content"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Hashtag {
 
@@ -24,4 +27,11 @@ public class Hashtag {
     public Hashtag(String content){
         this.content = content;
     }
+
+    // DB의 unique 키는 대소문자, 악센트를 구분하지 않는 collation으로 비교하므로 같은 기준으로 비교할 때 사용
+    public static String toMatchKey(String content) {
+        return Normalizer.normalize(content, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
 }
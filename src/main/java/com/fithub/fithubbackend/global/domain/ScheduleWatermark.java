@@ -0,0 +1,45 @@
+package com.fithub.fithubbackend.global.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleWatermark {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @NotNull
+    @Comment("마지막으로 처리 완료한 시각")
+    private LocalDateTime processedDateTime;
+
+    @Comment("마지막으로 처리한 서버의 fencing token")
+    private Long fencingToken;
+
+    @Builder
+    public ScheduleWatermark(String name, LocalDateTime processedDateTime) {
+        this.name = name;
+        this.processedDateTime = processedDateTime;
+    }
+
+    public void updateProcessedDateTime(LocalDateTime processedDateTime, Long fencingToken) {
+        this.processedDateTime = processedDateTime;
+        this.fencingToken = fencingToken;
+    }
+
+    public boolean isFencedBy(Long fencingToken) {
+        return this.fencingToken != null && this.fencingToken > fencingToken;
+    }
+}
@@ -33,6 +33,7 @@ public enum ErrorCode {
     
     IAMPORT_PRICE_ERROR(HttpStatus.CONFLICT, "결제된 금액이 달라 결제가 취소되었습니다."),
     DATE_OR_TIME_ERROR(HttpStatus.BAD_REQUEST, "불가능한 날짜 또는 시간대입니다."),
+    RESERVATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "예약 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     PERMISSION_DENIED(HttpStatus.FORBIDDEN, "해당 작업을 수행할 권한이 없습니다."),
 
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
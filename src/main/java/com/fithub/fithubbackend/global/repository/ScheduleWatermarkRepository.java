@@ -0,0 +1,40 @@
+package com.fithub.fithubbackend.global.repository;
+
+import com.fithub.fithubbackend.global.domain.ScheduleWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+public interface ScheduleWatermarkRepository extends JpaRepository<ScheduleWatermark, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ScheduleWatermark> findByName(String name);
+
+    // 처리 중인 스케줄러가 있으면 커밋될 때까지 기다렸다가 읽음. 읽는 쪽끼리는 서로 막지 않음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT w FROM ScheduleWatermark w WHERE w.name = :name")
+    Optional<ScheduleWatermark> findByNameForShare(@Param("name") String name);
+
+    // 여러 서버가 동시에 만들어도 한 서버만 성공
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO schedule_watermark (name, processed_date_time) VALUES (:name, :processedDateTime)", nativeQuery = true)
+    int saveIfAbsent(@Param("name") String name, @Param("processedDateTime") LocalDateTime processedDateTime);
+
+    // fencing token이 더 큰 서버가 이미 처리했으면 0. 호출한 트랜잭션이 끝날 때까지 행을 잠가 이전 leader와 동시에 처리하지 않음
+    @Modifying
+    @Query(value = "UPDATE schedule_watermark SET fencing_token = :fencingToken WHERE name = :name AND (fencing_token IS NULL OR fencing_token <= :fencingToken)", nativeQuery = true)
+    int updateFencingToken(@Param("name") String name, @Param("fencingToken") long fencingToken);
+
+    // 처리 시각이 없는 작업도 fencing token으로 만료된 leader를 막을 수 있도록 행을 만들고 확인
+    default boolean fence(String name, long fencingToken) {
+        saveIfAbsent(name, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        return updateFencingToken(name, fencingToken) == 1;
+    }
+}
@@ -0,0 +1,182 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.AvailableDate;
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.reservation.ReserveReqDto;
+import com.fithub.fithubbackend.domain.Training.repository.AvailableDateRepository;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
+import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.repository.UserRepository;
+import com.fithub.fithubbackend.global.exception.CustomException;
+import com.fithub.fithubbackend.global.exception.ErrorCode;
+import com.fithub.fithubbackend.support.TrainingFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 시간, 같은 날짜의 다른 시간을 동시에 예약할 때 예약 수와 남은 시간 수가 맞는지 확인
+@SpringBootTest
+class PaymentServiceConcurrencyTest {
+
+    @Autowired private PaymentService paymentService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TrainerRepository trainerRepository;
+    @Autowired private TrainingRepository trainingRepository;
+    @Autowired private AvailableDateRepository availableDateRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // 수백 건이 한 시간대에 몰려도 각 요청이 이 시간 안에 끝나야 함
+    private final Duration claimLatencyLimit = Duration.ofSeconds(5);
+
+    private TrainingFixture fixture;
+    private Training training;
+    private LocalDate reservationDate;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TrainingFixture(userRepository, trainerRepository, trainingRepository);
+        reservationDate = LocalDate.now(ZoneId.of("Asia/Seoul")).plusDays(1);
+        training = fixture.saveTraining(fixture.saveTrainer(), reservationDate, reservationDate.plusDays(6), LocalTime.of(10, 0), LocalTime.of(18, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 시간을 수백 명이 동시에 예약하면 한 명만 성공하고 모든 요청이 제한 시간 안에 끝남")
+    void claimSameSlotConcurrently() throws Exception {
+        int threadCount = 200;
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            users.add(fixture.saveUser());
+        }
+
+        List<Callable<Long>> claims = users.stream()
+                .map(user -> (Callable<Long>) () -> paymentService.saveOrder(reserveReqDto(LocalTime.of(10, 0)), user))
+                .toList();
+        ClaimResult result = runConcurrently(claims);
+
+        assertThat(result.succeeded.get()).isEqualTo(1);
+        assertThat(result.rejected.get()).isEqualTo(threadCount - 1);
+        assertThat(result.busy.get()).isZero();
+        assertThat(result.unexpected).isEmpty();
+        assertThat(result.percentile(0.99)).isLessThan(claimLatencyLimit);
+        assertThat(result.max()).isLessThan(claimLatencyLimit);
+
+        AvailableDate availableDate = availableDateRepository.findByTrainingIdAndDate(training.getId(), reservationDate).orElseThrow();
+        assertThat(availableDate.getReservationCount()).isEqualTo(1);
+        assertThat(availableDate.getRemainingSlots()).isEqualTo(7);
+        assertThat(trainingRepository.findById(training.getId()).orElseThrow().getRemainingSlots()).isEqualTo(7 * 8 - 1);
+    }
+
+    @Test
+    @DisplayName("같은 날짜의 다른 시간을 동시에 예약하면 모두 성공")
+    void claimSameDateConcurrently() throws Exception {
+        List<Callable<Long>> claims = new ArrayList<>();
+        for (int hour = 10; hour < 18; hour++) {
+            LocalTime time = LocalTime.of(hour, 0);
+            User user = fixture.saveUser();
+            claims.add(() -> paymentService.saveOrder(reserveReqDto(time), user));
+        }
+        ClaimResult result = runConcurrently(claims);
+
+        assertThat(result.succeeded.get()).isEqualTo(8);
+        assertThat(result.busy.get()).isZero();
+        assertThat(result.unexpected).isEmpty();
+        assertThat(result.max()).isLessThan(claimLatencyLimit);
+
+        AvailableDate availableDate = availableDateRepository.findByTrainingIdAndDate(training.getId(), reservationDate).orElseThrow();
+        assertThat(availableDate.getReservationCount()).isEqualTo(8);
+        assertThat(availableDate.getRemainingSlots()).isZero();
+        assertThat(trainingRepository.findById(training.getId()).orElseThrow().getRemainingSlots()).isEqualTo(7 * 8 - 8);
+    }
+
+    private ReserveReqDto reserveReqDto(LocalTime time) {
+        ReserveReqDto dto = new ReserveReqDto();
+        dto.setTrainingId(training.getId());
+        dto.setReservationDate(reservationDate);
+        dto.setReservationTime(time);
+        return dto;
+    }
+
+    private ClaimResult runConcurrently(List<Callable<Long>> claims) throws InterruptedException {
+        ClaimResult result = new ClaimResult();
+        ExecutorService executor = Executors.newFixedThreadPool(claims.size());
+        CountDownLatch ready = new CountDownLatch(claims.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(claims.size());
+
+        for (Callable<Long> claim : claims) {
+            executor.submit(() -> {
+                ready.countDown();
+                long startedAt = 0;
+                try {
+                    start.await();
+                    startedAt = System.nanoTime();
+                    claim.call();
+                    result.succeeded.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.DATE_OR_TIME_ERROR) {
+                        result.rejected.incrementAndGet();
+                    } else if (e.getErrorCode() == ErrorCode.RESERVATION_BUSY) {
+                        result.busy.incrementAndGet();
+                    } else {
+                        result.unexpected.add(e);
+                    }
+                } catch (Exception e) {
+                    result.unexpected.add(e);
+                } finally {
+                    if (startedAt != 0) {
+                        result.latencies.add(Duration.ofNanos(System.nanoTime() - startedAt));
+                    }
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        boolean finished = done.await(60, TimeUnit.SECONDS);
+        executor.shutdownNow();
+        assertThat(finished).as("모든 예약 요청이 끝나야 함").isTrue();
+        assertThat(result.latencies).hasSize(claims.size());
+        return result;
+    }
+
+    private static class ClaimResult {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger busy = new AtomicInteger();
+        private final List<Exception> unexpected = new CopyOnWriteArrayList<>();
+        private final List<Duration> latencies = new CopyOnWriteArrayList<>();
+
+        private Duration percentile(double percentile) {
+            List<Duration> sorted = latencies.stream().sorted().toList();
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0));
+        }
+
+        private Duration max() {
+            return latencies.stream().max(Comparator.naturalOrder()).orElseThrow();
+        }
+    }
+}
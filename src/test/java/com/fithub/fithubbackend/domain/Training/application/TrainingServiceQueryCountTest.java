@@ -0,0 +1,106 @@
+package com.fithub.fithubbackend.domain.Training.application;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.domain.TrainingCategory;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingCursorPageDto;
+import com.fithub.fithubbackend.domain.Training.dto.TrainingOutlineDto;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
+import com.fithub.fithubbackend.domain.user.repository.UserRepository;
+import com.fithub.fithubbackend.global.common.Category;
+import com.fithub.fithubbackend.support.TrainingFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트레이닝 목록 조회의 쿼리 수가 페이지 크기와 관계없이 일정한지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TrainingServiceQueryCountTest {
+
+    @Autowired private TrainingService trainingService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TrainerRepository trainerRepository;
+    @Autowired private TrainingRepository trainingRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private TrainingFixture fixture;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TrainingFixture(userRepository, trainerRepository, trainingRepository);
+        LocalDate startDate = LocalDate.now(ZoneId.of("Asia/Seoul")).plusDays(1);
+        for (int i = 0; i < 25; i++) {
+            Trainer trainer = fixture.saveTrainer();
+            Training training = fixture.saveTraining(trainer, startDate, startDate.plusDays(6), LocalTime.of(10, 0), LocalTime.of(18, 0));
+            training.addCategory(TrainingCategory.builder().training(training).category(Category.PT).build());
+            training.addCategory(TrainingCategory.builder().training(training).category(Category.HEALTH).build());
+            trainingRepository.save(training);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.deleteAll(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("페이지 목록 조회 쿼리 수는 페이지 크기와 관계없이 일정")
+    void searchAllStatementCount() {
+        long small = countStatements(() -> {
+            Page<TrainingOutlineDto> page = trainingService.searchAll(PageRequest.of(0, 5));
+            assertThat(page.getContent()).hasSize(5);
+            return page;
+        });
+        long large = countStatements(() -> {
+            Page<TrainingOutlineDto> page = trainingService.searchAll(PageRequest.of(0, 20));
+            assertThat(page.getContent()).hasSize(20);
+            return page;
+        });
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 쿼리 수는 페이지 크기와 관계없이 일정")
+    void searchAllByCursorStatementCount() {
+        long small = countStatements(() -> {
+            TrainingCursorPageDto page = trainingService.searchAllByCursor(null, PageRequest.of(0, 5), false);
+            assertThat(page.getContent()).hasSize(5);
+            return page;
+        });
+        long large = countStatements(() -> {
+            TrainingCursorPageDto page = trainingService.searchAllByCursor(null, PageRequest.of(0, 20), false);
+            assertThat(page.getContent()).hasSize(20);
+            return page;
+        });
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(Supplier<?> query) {
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
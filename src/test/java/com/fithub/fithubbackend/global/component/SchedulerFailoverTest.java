@@ -0,0 +1,109 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.FithubBackendApplication;
+import com.fithub.fithubbackend.support.RedisTestContainer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 두 서버(애플리케이션 컨텍스트)가 같은 Redis를 쓸 때 Scheduler의 매시 작업이 한 서버에서만 실행되고, leader가 내려가면 lease 만료 후 다른 서버가 이어받는지 확인
+class SchedulerFailoverTest {
+
+    private final String jobName = "training-sweep";
+    private final Duration leaseTime = Duration.ofSeconds(2);
+    private final Duration pollInterval = Duration.ofMillis(50);
+
+    private ConfigurableApplicationContext first;
+    private ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() {
+        first = startNode();
+        second = startNode();
+        redisTemplate(first).delete(leaseKey());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (ConfigurableApplicationContext node : List.of(first, second)) {
+            if (node.isActive()) {
+                node.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("두 서버가 동시에 실행하면 한 서버만 작업을 실행하고, leader가 내려가면 다른 서버가 이어받음")
+    void takeOverAfterLeaderStops() {
+        scheduler(first).checkTrainingDateTimeValidation();
+        scheduler(second).checkTrainingDateTimeValidation();
+
+        await().atMost(Duration.ofSeconds(10)).pollInterval(pollInterval)
+                .until(() -> leaseCount(first, "acquired") + leaseCount(first, "skipped") == 1
+                        && leaseCount(second, "acquired") + leaseCount(second, "skipped") == 1);
+        assertThat(leaseCount(first, "acquired") + leaseCount(second, "acquired")).isEqualTo(1);
+
+        ConfigurableApplicationContext leader = leaseCount(first, "acquired") == 1 ? first : second;
+        ConfigurableApplicationContext follower = leader == first ? second : first;
+        await().atMost(Duration.ofSeconds(10)).pollInterval(pollInterval).until(() -> sweepCount(leader) == 1);
+        assertThat(sweepCount(follower)).isZero();
+
+        // leader가 내려가도 lease는 반납하지 않으므로 만료될 때까지 다른 서버는 실행하지 않음
+        leader.close();
+        scheduler(follower).checkTrainingDateTimeValidation();
+        await().atMost(Duration.ofSeconds(10)).pollInterval(pollInterval).until(() -> leaseCount(follower, "skipped") == 2);
+        assertThat(sweepCount(follower)).isZero();
+
+        StringRedisTemplate redisTemplate = redisTemplate(follower);
+        await().atMost(leaseTime.multipliedBy(5)).pollInterval(pollInterval)
+                .until(() -> !Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey())));
+        scheduler(follower).checkTrainingDateTimeValidation();
+
+        await().atMost(Duration.ofSeconds(10)).pollInterval(pollInterval).until(() -> sweepCount(follower) == 1);
+        assertThat(leaseCount(follower, "acquired")).isEqualTo(1);
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        Map<String, Object> properties = new HashMap<>(RedisTestContainer.properties());
+        properties.put("server.port", 0);
+        properties.put("scheduler.lease.hourly", leaseTime.toMillis() + "ms");
+        return new SpringApplicationBuilder(FithubBackendApplication.class).properties(properties).run();
+    }
+
+    private Scheduler scheduler(ConfigurableApplicationContext node) {
+        return node.getBean(Scheduler.class);
+    }
+
+    private StringRedisTemplate redisTemplate(ConfigurableApplicationContext node) {
+        return node.getBean(StringRedisTemplate.class);
+    }
+
+    private double leaseCount(ConfigurableApplicationContext node, String result) {
+        Counter counter = node.getBean(MeterRegistry.class).find("scheduler.lease").tags("job", jobName, "result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long sweepCount(ConfigurableApplicationContext node) {
+        Timer timer = node.getBean(MeterRegistry.class).find("scheduler.training.sweep").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private String leaseKey() {
+        return "scheduler:lease:" + jobName;
+    }
+}
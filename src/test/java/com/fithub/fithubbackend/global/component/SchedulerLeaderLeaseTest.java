@@ -0,0 +1,118 @@
+package com.fithub.fithubbackend.global.component;
+
+import com.fithub.fithubbackend.global.repository.ScheduleWatermarkRepository;
+import com.fithub.fithubbackend.support.RedisTestContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 여러 서버(SchedulerLeaderLease 인스턴스)가 같은 작업을 동시에 실행할 때 한 서버만 실행되고, 만료된 leader는 fencing token으로 막히는지 확인
+@SpringBootTest
+class SchedulerLeaderLeaseTest {
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        RedisTestContainer.registerProperties(registry);
+    }
+
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+    @Autowired private ScheduleWatermarkRepository scheduleWatermarkRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private String jobName;
+
+    @BeforeEach
+    void setUp() {
+        jobName = "test-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("여러 서버가 동시에 실행하면 한 서버만 작업을 실행")
+    void runOnlyOneLeaderConcurrently() throws Exception {
+        int instanceCount = 5;
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(instanceCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < instanceCount; i++) {
+                SchedulerLeaderLease lease = new SchedulerLeaderLease(redisTemplate, new SimpleMeterRegistry());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    lease.runIfLeader(jobName, Duration.ofSeconds(10), fencingToken -> executed.incrementAndGet());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 끝나도 lease가 만료되기 전에는 다른 서버가 다시 실행하지 않음")
+    void keepLeaseUntilExpired() {
+        SchedulerLeaderLease first = new SchedulerLeaderLease(redisTemplate, new SimpleMeterRegistry());
+        SchedulerLeaderLease second = new SchedulerLeaderLease(redisTemplate, new SimpleMeterRegistry());
+        List<Long> tokens = new CopyOnWriteArrayList<>();
+        Duration leaseTime = Duration.ofSeconds(1);
+
+        first.runIfLeader(jobName, leaseTime, tokens::add);
+        second.runIfLeader(jobName, leaseTime, tokens::add);
+        assertThat(tokens).hasSize(1);
+
+        awaitLeaseExpired(leaseTime);
+        second.runIfLeader(jobName, leaseTime, tokens::add);
+
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens.get(1)).isGreaterThan(tokens.get(0));
+    }
+
+    @Test
+    @DisplayName("lease가 만료된 뒤 늦게 처리하는 이전 leader는 fencing token으로 막힘")
+    void fenceExpiredLeader() {
+        SchedulerLeaderLease first = new SchedulerLeaderLease(redisTemplate, new SimpleMeterRegistry());
+        SchedulerLeaderLease second = new SchedulerLeaderLease(redisTemplate, new SimpleMeterRegistry());
+        Duration leaseTime = Duration.ofSeconds(1);
+        List<Long> firstTokens = new CopyOnWriteArrayList<>();
+        List<Long> secondTokens = new CopyOnWriteArrayList<>();
+
+        first.runIfLeader(jobName, leaseTime, firstTokens::add);
+        awaitLeaseExpired(leaseTime);
+        second.runIfLeader(jobName, leaseTime, secondTokens::add);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        assertThat(transaction.execute(status -> scheduleWatermarkRepository.fence(jobName, secondTokens.get(0)))).isTrue();
+        assertThat(transaction.execute(status -> scheduleWatermarkRepository.fence(jobName, firstTokens.get(0)))).isFalse();
+        assertThat(transaction.execute(status -> scheduleWatermarkRepository.fence(jobName, secondTokens.get(0)))).isTrue();
+    }
+
+    private void awaitLeaseExpired(Duration leaseTime) {
+        await().atMost(leaseTime.multipliedBy(5))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> !Boolean.TRUE.equals(redisTemplate.hasKey("scheduler:lease:" + jobName)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fithub.fithubbackend.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Map;
+
+// 테스트 간 공유하는 Redis 컨테이너. 처음 사용할 때 한 번 띄우고 JVM 종료 시 정리됨
+public final class RedisTestContainer {
+
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    private RedisTestContainer() {
+    }
+
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        properties().forEach((key, value) -> registry.add(key, () -> value));
+    }
+
+    public static Map<String, Object> properties() {
+        return Map.of(
+                "spring.data.redis.host", REDIS.getHost(),
+                "spring.data.redis.port", REDIS.getMappedPort(6379),
+                "spring.data.redis.password", "");
+    }
+}
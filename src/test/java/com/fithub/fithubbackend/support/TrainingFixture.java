@@ -0,0 +1,122 @@
+package com.fithub.fithubbackend.support;
+
+import com.fithub.fithubbackend.domain.Training.domain.Training;
+import com.fithub.fithubbackend.domain.Training.dto.trainersTraining.TrainingCreateDto;
+import com.fithub.fithubbackend.domain.Training.repository.TrainingRepository;
+import com.fithub.fithubbackend.domain.trainer.domain.Trainer;
+import com.fithub.fithubbackend.domain.trainer.domain.TrainerCareer;
+import com.fithub.fithubbackend.domain.trainer.dto.TrainerCareerRequestDto;
+import com.fithub.fithubbackend.domain.trainer.repository.TrainerRepository;
+import com.fithub.fithubbackend.domain.user.domain.User;
+import com.fithub.fithubbackend.domain.user.dto.SignUpDto;
+import com.fithub.fithubbackend.domain.user.enums.Gender;
+import com.fithub.fithubbackend.domain.user.repository.UserRepository;
+import com.fithub.fithubbackend.global.domain.Document;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 통합 테스트용 회원, 트레이너, 트레이닝 저장
+@RequiredArgsConstructor
+public class TrainingFixture {
+
+    private final UserRepository userRepository;
+    private final TrainerRepository trainerRepository;
+    private final TrainingRepository trainingRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> trainerIds = new ArrayList<>();
+    private final List<Long> trainingIds = new ArrayList<>();
+
+    public User saveUser() {
+        String key = UUID.randomUUID().toString().substring(0, 8);
+        SignUpDto signUpDto = SignUpDto.builder()
+                .email(key + "@fithub.com")
+                .password("password")
+                .name("테스트")
+                .nickname("test" + key)
+                .phone("01000000000")
+                .gender(Gender.UNDEFINED)
+                .build();
+        Document document = Document.builder().url("https://fithub.test/profile.png").inputName("profile.png").path("profile.png").build();
+        User user = userRepository.save(User.builder().signUpDto(signUpDto).encodedPassword("password").document(document).build());
+        userIds.add(user.getId());
+        return user;
+    }
+
+    public Trainer saveTrainer() {
+        Trainer trainer = Trainer.builder().user(saveUser()).build();
+
+        TrainerCareerRequestDto careerDto = new TrainerCareerRequestDto();
+        careerDto.setCompany("fithub");
+        careerDto.setAddress("서울특별시 중구 세종대로 110");
+        careerDto.setWork("PT");
+        careerDto.setStartDate(LocalDate.of(2020, 1, 1));
+        careerDto.setWorking(true);
+        trainer.updateAddress(TrainerCareer.careerBuilder().trainer(trainer).dto(careerDto).point(point(126.9779, 37.5663)).careerBuild());
+
+        Trainer saved = trainerRepository.save(trainer);
+        trainerIds.add(saved.getId());
+        return saved;
+    }
+
+    public Training saveTraining(Trainer trainer, LocalDate startDate, LocalDate endDate, LocalTime startHour, LocalTime endHour) {
+        return saveTraining(trainer, "테스트 트레이닝", startDate, endDate, startHour, endHour);
+    }
+
+    public Training saveTraining(Trainer trainer, String title, LocalDate startDate, LocalDate endDate, LocalTime startHour, LocalTime endHour) {
+        TrainingCreateDto dto = new TrainingCreateDto();
+        dto.setTitle(title);
+        dto.setContent("테스트 트레이닝 소개");
+        dto.setPrice(10000);
+        dto.setStartDate(startDate);
+        dto.setEndDate(endDate);
+        dto.setStartHour(startHour);
+        dto.setEndHour(endHour);
+        Training training = trainingRepository.save(Training.builder().dto(dto).trainer(trainer).build());
+        trainingIds.add(training.getId());
+        return training;
+    }
+
+    // 저장한 회원, 트레이너, 트레이닝과 테스트 중 생긴 예약, 알림을 외래 키 순서대로 삭제
+    public void deleteAll(JdbcTemplate jdbcTemplate) {
+        if (!trainingIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM reserve_info WHERE training_id IN (" + joinIds(trainingIds) + ")");
+        }
+        if (!userIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM reserve_info WHERE user_id IN (" + joinIds(userIds) + ")");
+            jdbcTemplate.update("DELETE FROM notify WHERE receiver_id IN (" + joinIds(userIds) + ")");
+        }
+        if (!trainerIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM trainer_rating_stats WHERE trainer_id IN (" + joinIds(trainerIds) + ")");
+        }
+
+        trainingRepository.deleteAllById(trainingIds);
+        trainerRepository.deleteAllById(trainerIds);
+        userRepository.deleteAllById(userIds);
+        trainingIds.clear();
+        trainerIds.clear();
+        userIds.clear();
+    }
+
+    private String joinIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private Point point(double longitude, double latitude) {
+        try {
+            return (Point) new WKTReader().read(String.format("POINT(%s %s)", longitude, latitude));
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}